@@ -0,0 +1,76 @@
+package gov.irs.ives.bwas.api.controllers;
+
+import gov.irs.ives.bwas.api.dtos.AuthorizationDecisionDTO;
+import gov.irs.ives.bwas.api.dtos.AuthorizationDocumentDTO;
+import gov.irs.ives.bwas.api.dtos.AuthorizationDocumentPageDTO;
+import gov.irs.ives.bwas.api.dtos.AuthorizationResultDTO;
+import gov.irs.ives.bwas.api.mappers.AuthorizationDocumentMapper;
+import gov.irs.ives.bwas.core.services.AsyncAuthorizationService;
+import io.micrometer.observation.annotation.Observed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variants of the {@link AuthorizationController} endpoints. Each handler
+ * returns a CompletableFuture, so the servlet request thread is released while the
+ * work is in progress and the response is written once the future completes.
+ */
+@RestController
+@Observed(name = "authorization.controller")
+@RequestMapping("/api/v1/async/authorizations")
+@RequiredArgsConstructor
+@Tag(name = "Authorization (async)", description = "Non-blocking authorization management APIs")
+public class AsyncAuthorizationController {
+
+    private final AsyncAuthorizationService authorizationService;
+    private final AuthorizationDocumentMapper mapper;
+
+    @GetMapping
+    @Operation(summary = "Get authorization documents by TIN")
+    public CompletableFuture<ResponseEntity<AuthorizationDocumentPageDTO>> getDocuments(
+            @RequestParam String tin,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) Integer size) {
+        return authorizationService.getDocuments(tin, pageToken, size)
+                .thenApply(page -> ResponseEntity.ok(mapper.toDTO(page)));
+    }
+
+    @GetMapping("/{transactionId}")
+    @Operation(summary = "Get authorization document by transaction ID")
+    public CompletableFuture<ResponseEntity<AuthorizationDocumentDTO>> getDocument(
+            @PathVariable String transactionId,
+            @RequestParam String tin,
+            @RequestParam String tinType) {
+        return authorizationService.getDocument(transactionId, tin, tinType)
+                .thenApply(document -> ResponseEntity.ok(mapper.toDTO(document)));
+    }
+
+    @PostMapping("/{transactionId}/authorize")
+    @Operation(summary = "Authorize a document")
+    public CompletableFuture<ResponseEntity<AuthorizationDocumentDTO>> authorize(
+            @PathVariable String transactionId,
+            @RequestParam String action,
+            @RequestParam String documentTin,
+            @RequestParam String tinType,
+            @RequestParam String userId,
+            @RequestParam String userTin) {
+        return authorizationService.authorize(action, transactionId, documentTin, tinType, userId, userTin)
+                .thenApply(document -> ResponseEntity.ok(mapper.toDTO(document)));
+    }
+
+    @PostMapping("/authorize")
+    @Operation(summary = "Authorize many documents in one call")
+    public CompletableFuture<ResponseEntity<List<AuthorizationResultDTO>>> authorizeAll(
+            @RequestBody List<AuthorizationDecisionDTO> decisions,
+            @RequestParam String userId,
+            @RequestParam String userTin) {
+        return authorizationService.authorizeAll(mapper.toDecisions(decisions), userId, userTin)
+                .thenApply(results -> ResponseEntity.ok(mapper.toResultDTOs(results)));
+    }
+} 
\ No newline at end of file
@@ -1,8 +1,12 @@
 package gov.irs.ives.bwas.api.controllers;
 
+import gov.irs.ives.bwas.api.dtos.AuthorizationDecisionDTO;
 import gov.irs.ives.bwas.api.dtos.AuthorizationDocumentDTO;
+import gov.irs.ives.bwas.api.dtos.AuthorizationDocumentPageDTO;
+import gov.irs.ives.bwas.api.dtos.AuthorizationResultDTO;
 import gov.irs.ives.bwas.core.services.AuthorizationService;
 import gov.irs.ives.bwas.api.mappers.AuthorizationDocumentMapper;
+import io.micrometer.observation.annotation.Observed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -10,9 +14,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
+@Observed(name = "authorization.controller")
 @RequestMapping("/api/v1/authorizations")
 @RequiredArgsConstructor
 @Tag(name = "Authorization", description = "Authorization management APIs")
@@ -23,14 +27,12 @@ public class AuthorizationController {
 
     @GetMapping
     @Operation(summary = "Get authorization documents by TIN")
-    public ResponseEntity<List<AuthorizationDocumentDTO>> getDocuments(
+    public ResponseEntity<AuthorizationDocumentPageDTO> getDocuments(
             @RequestParam String tin,
-            @RequestParam(defaultValue = "0") int page) {
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) Integer size) {
         return ResponseEntity.ok(
-            authorizationService.getDocuments(tin, page)
-                .stream()
-                .map(mapper::toDTO)
-                .collect(Collectors.toList())
+            mapper.toDTO(authorizationService.getDocuments(tin, pageToken, size))
         );
     }
 
@@ -59,4 +61,16 @@ public class AuthorizationController {
                 action, transactionId, documentTin, tinType, userId, userTin))
         );
     }
+
+    @PostMapping("/authorize")
+    @Operation(summary = "Authorize many documents in one call")
+    public ResponseEntity<List<AuthorizationResultDTO>> authorizeAll(
+            @RequestBody List<AuthorizationDecisionDTO> decisions,
+            @RequestParam String userId,
+            @RequestParam String userTin) {
+        return ResponseEntity.ok(
+            mapper.toResultDTOs(authorizationService.authorizeAll(
+                mapper.toDecisions(decisions), userId, userTin))
+        );
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package gov.irs.ives.bwas.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorizationDecisionDTO {
+    private String transactionId;
+    private String documentTin;
+    private String action;
+} 
\ No newline at end of file
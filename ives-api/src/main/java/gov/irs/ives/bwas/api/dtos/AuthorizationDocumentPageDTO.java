@@ -0,0 +1,13 @@
+package gov.irs.ives.bwas.api.dtos;
+
+import lombok.Data;
+import lombok.Builder;
+import java.util.List;
+
+@Data
+@Builder
+public class AuthorizationDocumentPageDTO {
+    private List<AuthorizationDocumentDTO> documents;
+    private String nextPageToken;
+    private int pageSize;
+} 
\ No newline at end of file
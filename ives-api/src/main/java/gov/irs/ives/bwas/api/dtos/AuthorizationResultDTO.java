@@ -0,0 +1,14 @@
+package gov.irs.ives.bwas.api.dtos;
+
+import lombok.Data;
+import lombok.Builder;
+
+@Data
+@Builder
+public class AuthorizationResultDTO {
+    private String transactionId;
+    private String action;
+    private String outcome;
+    private String message;
+    private AuthorizationDocumentDTO document;
+} 
\ No newline at end of file
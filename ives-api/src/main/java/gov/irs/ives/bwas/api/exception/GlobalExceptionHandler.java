@@ -1,6 +1,10 @@
 package gov.irs.ives.bwas.api.exception;
 
+import gov.irs.ives.bwas.core.exceptions.AuthorizationConflictException;
+import gov.irs.ives.bwas.core.exceptions.DependencyUnavailableException;
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -9,6 +13,7 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Global exception handler for the BWAS application.
@@ -38,6 +43,18 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(CompletionException.class)
     public ResponseEntity<ErrorResponse> handleCompletionException(CompletionException ex) {
+        if (ex.getCause() instanceof TimeoutException timeout) {
+            return handleTimeoutException(timeout);
+        }
+        if (ex.getCause() instanceof AuthorizationConflictException conflict) {
+            return handleAuthorizationConflictException(conflict);
+        }
+        if (ex.getCause() instanceof DependencyUnavailableException unavailable) {
+            return handleDependencyUnavailableException(unavailable);
+        }
+        if (ex.getCause() instanceof InvalidRequestException invalid) {
+            return handleInvalidRequestException(invalid);
+        }
         log.error("Async operation error: {}", ex.getMessage(), ex);
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -49,6 +66,86 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    /**
+     * Handles TimeoutException when a downstream stage does not answer in time.
+     */
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleTimeoutException(TimeoutException ex) {
+        log.warn("Downstream timeout: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(new ErrorResponse(
+                        HttpStatus.GATEWAY_TIMEOUT.value(),
+                        "Gateway timeout",
+                        ex.getMessage(),
+                        LocalDateTime.now()
+                ));
+    }
+
+    /**
+     * Handles AuthorizationConflictException when a document was changed by a concurrent request.
+     */
+    @ExceptionHandler(AuthorizationConflictException.class)
+    public ResponseEntity<ErrorResponse> handleAuthorizationConflictException(AuthorizationConflictException ex) {
+        log.warn("Authorization conflict for {}: {}", ex.getTransactionId(), ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(
+                        HttpStatus.CONFLICT.value(),
+                        "Conflict",
+                        ex.getMessage(),
+                        LocalDateTime.now()
+                ));
+    }
+
+    /**
+     * Handles InvalidRequestException from invalid request parameters.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException ex) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(
+                        HttpStatus.BAD_REQUEST.value(),
+                        "Bad request",
+                        ex.getMessage(),
+                        LocalDateTime.now()
+                ));
+    }
+
+    /**
+     * Handles TaskRejectedException when the asynchronous executors are saturated.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException ex) {
+        log.warn("Request rejected, executor saturated: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Service unavailable",
+                        "Server is at capacity, retry later",
+                        LocalDateTime.now()
+                ));
+    }
+
+    /**
+     * Handles DependencyUnavailableException when a downstream service is failing fast.
+     */
+    @ExceptionHandler(DependencyUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleDependencyUnavailableException(DependencyUnavailableException ex) {
+        log.warn("Downstream {} unavailable: {}", ex.getDependency(), ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Service unavailable",
+                        ex.getMessage(),
+                        LocalDateTime.now()
+                ));
+    }
+
     /**
      * Handles all other exceptions.
      */
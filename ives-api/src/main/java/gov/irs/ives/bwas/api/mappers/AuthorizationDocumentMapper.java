@@ -1,11 +1,20 @@
 package gov.irs.ives.bwas.api.mappers;
 
+import gov.irs.ives.bwas.api.dtos.AuthorizationDecisionDTO;
 import gov.irs.ives.bwas.api.dtos.AuthorizationDocumentDTO;
+import gov.irs.ives.bwas.api.dtos.AuthorizationDocumentPageDTO;
+import gov.irs.ives.bwas.api.dtos.AuthorizationResultDTO;
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
 import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentSummary;
+import gov.irs.ives.bwas.core.domain.AuthorizationResult;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface AuthorizationDocumentMapper {
     AuthorizationDocumentMapper INSTANCE = Mappers.getMapper(AuthorizationDocumentMapper.class);
@@ -30,5 +39,38 @@ public interface AuthorizationDocumentMapper {
     @Mapping(target = "documentType", source = "documentType")
     @Mapping(target = "documentStatus", source = "documentStatus")
     @Mapping(target = "authorizationStatus", source = "authorizationStatus")
+    @Mapping(target = "version", ignore = true)
     AuthorizationDocument toDomain(AuthorizationDocumentDTO dto);
+
+    @Mapping(target = "transactionId", source = "transactionId")
+    @Mapping(target = "tin", source = "tin")
+    @Mapping(target = "tinType", source = "tinType")
+    @Mapping(target = "status", source = "status")
+    @Mapping(target = "createdDate", source = "createdDate")
+    @Mapping(target = "updatedDate", source = "updatedDate")
+    @Mapping(target = "documentType", source = "documentType")
+    @Mapping(target = "documentStatus", source = "documentStatus")
+    @Mapping(target = "authorizationStatus", source = "authorizationStatus")
+    AuthorizationDocumentDTO toDTO(AuthorizationDocumentSummary summary);
+
+    @Mapping(target = "documents", source = "documents")
+    @Mapping(target = "nextPageToken", source = "nextPageToken")
+    @Mapping(target = "pageSize", source = "pageSize")
+    AuthorizationDocumentPageDTO toDTO(AuthorizationDocumentPage page);
+
+    @Mapping(target = "transactionId", source = "transactionId")
+    @Mapping(target = "documentTin", source = "documentTin")
+    @Mapping(target = "action", source = "action")
+    AuthorizationDecision toDomain(AuthorizationDecisionDTO dto);
+
+    List<AuthorizationDecision> toDecisions(List<AuthorizationDecisionDTO> dtos);
+
+    @Mapping(target = "transactionId", source = "transactionId")
+    @Mapping(target = "action", source = "action")
+    @Mapping(target = "outcome", source = "outcome")
+    @Mapping(target = "message", source = "message")
+    @Mapping(target = "document", source = "document")
+    AuthorizationResultDTO toDTO(AuthorizationResult result);
+
+    List<AuthorizationResultDTO> toResultDTOs(List<AuthorizationResult> results);
 } 
\ No newline at end of file
@@ -0,0 +1,148 @@
+package gov.irs.ives.bwas.api.controllers;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.services.AsyncAuthorizationService;
+import gov.irs.ives.bwas.core.services.AuthorizationService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the maximum sustained throughput of the blocking and the asynchronous
+ * {@code GET /{transactionId}} endpoints on one embedded Tomcat with a fixed worker pool.
+ * Both service stubs block for the same simulated downstream latency. The blocking one does
+ * so on its request thread; the asynchronous one does so on an executor sized like the
+ * authorization executor, as {@code AsyncAuthorizationServiceImpl} does. The asynchronous
+ * endpoint frees the request thread but is then limited to
+ * {@value #AUTHORIZATION_EXECUTOR_THREADS} requests in flight. The real services are
+ * compared against H2 by {@code AsyncAuthorizationServicePerformanceTest} in
+ * ives-infrastructure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class AuthorizationControllerThroughputPerformanceTest {
+
+    private static final long DOWNSTREAM_LATENCY_MILLIS = 200;
+    private static final int TOMCAT_WORKER_THREADS = 50;
+    // Defaults of authorization.async.pool-size and authorization.async.queue-capacity
+    private static final int AUTHORIZATION_EXECUTOR_THREADS = 10;
+    private static final int AUTHORIZATION_EXECUTOR_QUEUE = 500;
+
+    @Param({"/api/v1/authorizations", "/api/v1/async/authorizations"})
+    public String basePath;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_WORKER_THREADS,
+                        "server.tomcat.accept-count=1000",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + basePath
+                        + "/test-transaction?tin=123456789&tinType=SSN"))
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(400)
+    public int getDocument_SustainedLoad() throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = "gov.irs.ives.bwas.api")
+    static class BenchmarkApplication {
+
+        private static final AuthorizationDocument DOCUMENT = AuthorizationDocument.builder()
+                .transactionId("test-transaction")
+                .tin("123456789")
+                .tinType("SSN")
+                .documentType("F1040")
+                .documentStatus("PENDING")
+                .authorizationStatus("PENDING")
+                .createdDate(LocalDateTime.of(2024, 3, 20, 10, 0))
+                .build();
+
+        @Bean
+        ThreadPoolTaskExecutor authorizationExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(AUTHORIZATION_EXECUTOR_THREADS);
+            executor.setMaxPoolSize(AUTHORIZATION_EXECUTOR_THREADS);
+            executor.setQueueCapacity(AUTHORIZATION_EXECUTOR_QUEUE);
+            executor.setThreadNamePrefix("authorization-");
+            return executor;
+        }
+
+        @Bean
+        AuthorizationService authorizationService() {
+            AuthorizationService service = mock(AuthorizationService.class);
+            when(service.getDocument(any(), any(), any())).thenAnswer(invocation -> {
+                Thread.sleep(DOWNSTREAM_LATENCY_MILLIS);
+                return DOCUMENT;
+            });
+            return service;
+        }
+
+        @Bean
+        AsyncAuthorizationService asyncAuthorizationService(ThreadPoolTaskExecutor authorizationExecutor) {
+            AsyncAuthorizationService service = mock(AsyncAuthorizationService.class);
+            when(service.getDocument(any(), any(), any())).thenAnswer(invocation ->
+                    authorizationExecutor.submitCompletable(() -> {
+                        Thread.sleep(DOWNSTREAM_LATENCY_MILLIS);
+                        return DOCUMENT;
+                    }));
+            return service;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(AuthorizationControllerThroughputPerformanceTest.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+} 
\ No newline at end of file
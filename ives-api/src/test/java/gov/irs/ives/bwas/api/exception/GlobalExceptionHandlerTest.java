@@ -1,11 +1,16 @@
 package gov.irs.ives.bwas.api.exception;
 
+import gov.irs.ives.bwas.core.exceptions.AuthorizationConflictException;
+import gov.irs.ives.bwas.core.exceptions.DependencyUnavailableException;
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -52,6 +57,100 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody().timestamp());
     }
 
+    @Test
+    void handleCompletionException_WithTimeoutCause_ShouldReturnGatewayTimeout() {
+        CompletionException ex = new CompletionException(
+                new TimeoutException("FBP authorization timed out after 5000 ms"));
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = 
+                handler.handleCompletionException(ex);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), response.getBody().status());
+        assertEquals("Gateway timeout", response.getBody().error());
+        assertEquals("FBP authorization timed out after 5000 ms", response.getBody().message());
+        assertNotNull(response.getBody().timestamp());
+    }
+
+    @Test
+    void handleCompletionException_WithConflictCause_ShouldReturnConflict() {
+        CompletionException ex = new CompletionException(
+                new AuthorizationConflictException("tx-1", "Document tx-1 is no longer pending"));
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = 
+                handler.handleCompletionException(ex);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(HttpStatus.CONFLICT.value(), response.getBody().status());
+        assertEquals("Conflict", response.getBody().error());
+        assertEquals("Document tx-1 is no longer pending", response.getBody().message());
+        assertNotNull(response.getBody().timestamp());
+    }
+
+    @Test
+    void handleCompletionException_WithDependencyUnavailableCause_ShouldReturnServiceUnavailable() {
+        CompletionException ex = new CompletionException(
+                new DependencyUnavailableException("essar", "ESSAR is unavailable, circuit breaker is open"));
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = 
+                handler.handleCompletionException(ex);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Service unavailable", response.getBody().error());
+        assertEquals("ESSAR is unavailable, circuit breaker is open", response.getBody().message());
+    }
+
+    @Test
+    void handleInvalidRequestException_ShouldReturnBadRequest() {
+        InvalidRequestException ex = new InvalidRequestException("Invalid page token");
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = 
+                handler.handleInvalidRequestException(ex);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getBody().status());
+        assertEquals("Bad request", response.getBody().error());
+        assertEquals("Invalid page token", response.getBody().message());
+        assertNotNull(response.getBody().timestamp());
+    }
+
+    @Test
+    void handleCompletionException_WithInvalidRequestCause_ShouldReturnBadRequest() {
+        CompletionException ex = new CompletionException(
+                new InvalidRequestException("Action must be APPROVE or REJECT"));
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = 
+                handler.handleCompletionException(ex);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Action must be APPROVE or REJECT", response.getBody().message());
+    }
+
+    @Test
+    void handleTaskRejectedException_ShouldReturnServiceUnavailable() {
+        TaskRejectedException ex = new TaskRejectedException("Executor did not accept task");
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = 
+                handler.handleTaskRejectedException(ex);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getBody().status());
+        assertEquals("Service unavailable", response.getBody().error());
+        assertNotNull(response.getBody().timestamp());
+    }
+
     @Test
     void handleException_ShouldReturnCorrectResponse() {
         Exception ex = new RuntimeException("Unexpected error");
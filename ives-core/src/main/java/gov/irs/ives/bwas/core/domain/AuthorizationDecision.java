@@ -0,0 +1,12 @@
+package gov.irs.ives.bwas.core.domain;
+
+import lombok.Data;
+import lombok.Builder;
+
+@Data
+@Builder
+public class AuthorizationDecision {
+    private String transactionId;
+    private String documentTin;
+    private String action;
+} 
\ No newline at end of file
@@ -1,11 +1,15 @@
 package gov.irs.ives.bwas.core.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Builder;
+import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 public class AuthorizationDocument {
     private String transactionId;
     private String tin;
@@ -16,4 +20,5 @@ public class AuthorizationDocument {
     private String documentType;
     private String documentStatus;
     private String authorizationStatus;
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,13 @@
+package gov.irs.ives.bwas.core.domain;
+
+import lombok.Data;
+import lombok.Builder;
+import java.util.List;
+
+@Data
+@Builder
+public class AuthorizationDocumentPage {
+    private List<AuthorizationDocumentSummary> documents;
+    private String nextPageToken;
+    private int pageSize;
+} 
\ No newline at end of file
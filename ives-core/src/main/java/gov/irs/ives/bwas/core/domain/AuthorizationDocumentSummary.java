@@ -0,0 +1,20 @@
+package gov.irs.ives.bwas.core.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable read model of an authorization document, used by list reads. Instances are
+ * built straight from query results, so they are never tracked for changes and can be
+ * shared freely, including from caches.
+ */
+public record AuthorizationDocumentSummary(
+        String transactionId,
+        String tin,
+        String tinType,
+        String status,
+        LocalDateTime createdDate,
+        LocalDateTime updatedDate,
+        String documentType,
+        String documentStatus,
+        String authorizationStatus) {
+} 
\ No newline at end of file
@@ -0,0 +1,22 @@
+package gov.irs.ives.bwas.core.domain;
+
+import lombok.Data;
+import lombok.Builder;
+
+@Data
+@Builder
+public class AuthorizationResult {
+    private String transactionId;
+    private String action;
+    private Outcome outcome;
+    private String message;
+    private AuthorizationDocument document;
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        CONFLICT,
+        INVALID,
+        SIGNATURE_FAILED
+    }
+} 
\ No newline at end of file
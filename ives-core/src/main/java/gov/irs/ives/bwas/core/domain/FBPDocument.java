@@ -5,7 +5,7 @@ import lombok.Builder;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class FBPDocument {
     private String transactionId;
     private String tin;
@@ -16,5 +16,5 @@ public class FBPDocument {
     private LocalDateTime createdDate;
     private LocalDateTime updatedDate;
     private String documentContent;
-    private String metadata;
+    private RawJson metadata;
 } 
\ No newline at end of file
@@ -0,0 +1,81 @@
+package gov.irs.ives.bwas.core.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A JSON value kept as its raw UTF-8 encoding and parsed only when someone reads it.
+ * Values nobody reads cost one compact byte array instead of a tree of nodes or maps.
+ * Use {@link #openStream()} to parse into a tree or a typed view with any JSON library.
+ * Instances are immutable.
+ */
+public final class RawJson {
+
+    private final byte[] utf8;
+    private String text;
+
+    private RawJson(byte[] utf8) {
+        this.utf8 = utf8;
+    }
+
+    /**
+     * Takes ownership of the given bytes without copying; the caller must not modify them
+     * afterwards.
+     *
+     * @param utf8 a complete JSON value encoded as UTF-8
+     * @return the raw JSON value
+     */
+    public static RawJson wrap(byte[] utf8) {
+        return new RawJson(utf8);
+    }
+
+    /**
+     * @param json a complete JSON value
+     * @return the raw JSON value
+     */
+    public static RawJson of(String json) {
+        RawJson raw = new RawJson(json.getBytes(StandardCharsets.UTF_8));
+        raw.text = json;
+        return raw;
+    }
+
+    /**
+     * @return a stream over the UTF-8 encoded JSON, for parsing on demand
+     */
+    public InputStream openStream() {
+        return new ByteArrayInputStream(utf8);
+    }
+
+    /**
+     * @return the encoded size in bytes
+     */
+    public int size() {
+        return utf8.length;
+    }
+
+    /**
+     * @return the JSON text, decoded on first call
+     */
+    @Override
+    public String toString() {
+        String decoded = text;
+        if (decoded == null) {
+            // Decoding twice on a race is harmless; both threads get equal strings
+            decoded = new String(utf8, StandardCharsets.UTF_8);
+            text = decoded;
+        }
+        return decoded;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof RawJson raw && Arrays.equals(utf8, raw.utf8);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(utf8);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package gov.irs.ives.bwas.core.exceptions;
+
+/**
+ * Thrown when an authorization decision cannot be applied because the document was
+ * changed concurrently, for example when it was already approved or rejected by
+ * another request.
+ */
+public class AuthorizationConflictException extends RuntimeException {
+
+    private final String transactionId;
+
+    public AuthorizationConflictException(String transactionId, String message) {
+        super(message);
+        this.transactionId = transactionId;
+    }
+
+    public AuthorizationConflictException(String transactionId, String message, Throwable cause) {
+        super(message, cause);
+        this.transactionId = transactionId;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+} 
\ No newline at end of file
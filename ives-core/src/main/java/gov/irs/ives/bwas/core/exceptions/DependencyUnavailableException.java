@@ -0,0 +1,20 @@
+package gov.irs.ives.bwas.core.exceptions;
+
+/**
+ * Thrown without calling a downstream dependency when it is considered unhealthy or is
+ * already handling as many concurrent calls as it can, so callers fail fast instead of
+ * queueing behind a struggling service.
+ */
+public class DependencyUnavailableException extends RuntimeException {
+
+    private final String dependency;
+
+    public DependencyUnavailableException(String dependency, String message) {
+        super(message);
+        this.dependency = dependency;
+    }
+
+    public String getDependency() {
+        return dependency;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,17 @@
+package gov.irs.ives.bwas.core.exceptions;
+
+/**
+ * Thrown when a caller supplied parameters the service cannot act on, such as a
+ * malformed page token or an unknown action. Its message is written for the caller
+ * and is safe to return in the response.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+} 
\ No newline at end of file
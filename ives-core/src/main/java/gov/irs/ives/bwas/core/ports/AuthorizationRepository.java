@@ -1,12 +1,83 @@
 package gov.irs.ives.bwas.core.ports;
 
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
 import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.exceptions.AuthorizationConflictException;
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AuthorizationRepository {
-    List<AuthorizationDocument> findByTin(String tin, int page);
+    /**
+     * Gets one page of authorization documents for the given TIN, newest first.
+     * Pages are addressed by an opaque keyset token rather than an offset, so
+     * every page costs the same regardless of how deep it is.
+     *
+     * @param tin to search by
+     * @param pageToken token returned with the previous page, or null for the first page
+     * @param pageSize maximum number of documents to return
+     * @return the page of documents and the token for the next page, if any
+     * @throws InvalidRequestException if the page token is malformed
+     */
+    AuthorizationDocumentPage findByTin(String tin, String pageToken, int pageSize);
     Optional<AuthorizationDocument> findByTransactionId(String transactionId);
+
+    /**
+     * Gets all authorization documents with the given transaction IDs in a single query.
+     * IDs that do not exist are skipped.
+     *
+     * @param transactionIds of the documents to retrieve
+     * @return the documents found, in no particular order
+     */
+    List<AuthorizationDocument> findByTransactionIds(Collection<String> transactionIds);
+    /**
+     * Saves the document, checking its version against the stored one.
+     *
+     * @param document to save
+     * @return the saved document
+     * @throws AuthorizationConflictException if the document was changed concurrently
+     */
     AuthorizationDocument save(AuthorizationDocument document);
+
+    /**
+     * Saves the given documents as one batch of statements.
+     *
+     * @param documents to save
+     * @return the saved documents
+     * @throws AuthorizationConflictException if any document was changed concurrently
+     */
+    List<AuthorizationDocument> saveAll(Collection<AuthorizationDocument> documents);
+
+    /**
+     * Sets the authorization status of a document in a single conditional statement,
+     * only if it still belongs to the given TIN and still has the expected status. The
+     * version is incremented, so concurrent optimistic writes of the same row fail.
+     *
+     * @param transactionId of the document
+     * @param tin the document must belong to
+     * @param expectedStatus authorization status the document must currently have
+     * @param authorizationStatus new authorization status
+     * @param updatedDate new updated date
+     * @return true if the document was updated, false if no document matched
+     */
+    boolean updateAuthorizationStatus(String transactionId, String tin, String expectedStatus,
+            String authorizationStatus, LocalDateTime updatedDate);
+
+    /**
+     * Applies {@link #updateAuthorizationStatus} to many documents, sent to the database
+     * as one batch of statements. Each update is conditional on its own, so a document
+     * that no longer matches is skipped without affecting the others.
+     *
+     * @param decisions transaction ID, tin the document must belong to and new
+     *        authorization status of each document
+     * @param expectedStatus authorization status every document must currently have
+     * @param updatedDate new updated date
+     * @return whether each decision updated its document, in the order given
+     */
+    boolean[] updateAuthorizationStatuses(List<AuthorizationDecision> decisions, String expectedStatus,
+            LocalDateTime updatedDate);
     void delete(String transactionId);
 } 
\ No newline at end of file
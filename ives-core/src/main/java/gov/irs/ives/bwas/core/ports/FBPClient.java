@@ -1,8 +1,10 @@
 package gov.irs.ives.bwas.core.ports;
 
 import gov.irs.ives.bwas.core.domain.FBPDocument;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 public interface FBPClient {
     /**
@@ -21,6 +23,31 @@ public interface FBPClient {
      */
     CompletableFuture<List<FBPDocument>> getDocuments(String tin);
 
+    /**
+     * Streams the FBP documents corresponding to the given TIN. Documents are decoded
+     * one at a time as the response arrives and are only read from the network as the
+     * subscriber requests them, so the full list is never buffered in memory.
+     *
+     * @param tin to search by
+     * @return publisher emitting the FBP documents
+     */
+    Flow.Publisher<FBPDocument> streamDocuments(String tin);
+
+    /**
+     * Streams the raw content of the FBP document corresponding to the given transaction
+     * ID in chunks as it arrives. Chunks are read from the network only as the subscriber
+     * requests them, so memory use stays bounded by a few chunks regardless of document
+     * size.
+     * <p>
+     * Groundwork only: nothing calls this yet, and the FBP content endpoint it targets has
+     * not been confirmed against the FBP contract. Until it is, document content is read
+     * through {@link #getDocument(String)} as {@link FBPDocument#getDocumentContent()}.
+     *
+     * @param transactionId of the FBP document whose content to stream
+     * @return publisher emitting read-only content chunks, owned by the subscriber
+     */
+    Flow.Publisher<ByteBuffer> streamDocumentContent(String transactionId);
+
     /**
      * Authorizes (approves or rejects) an FBP document based on the given parameters.
      * 
@@ -28,7 +55,10 @@ public interface FBPClient {
      * @param transactionId of the FBP document to authorize
      * @param tin of the authorizer
      * @param signatureId optional signature when approving a request
+     * @param idempotencyKey optional key under which FBP recognises a resent decision, so
+     *        the call can be repeated after a timeout without deciding twice
      * @return CompletableFuture containing the updated FBP document
      */
-    CompletableFuture<FBPDocument> authorize(String action, String transactionId, String tin, String signatureId);
+    CompletableFuture<FBPDocument> authorize(String action, String transactionId, String tin, String signatureId,
+            String idempotencyKey);
 } 
\ No newline at end of file
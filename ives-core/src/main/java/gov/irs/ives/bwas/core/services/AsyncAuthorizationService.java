@@ -0,0 +1,60 @@
+package gov.irs.ives.bwas.core.services;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.domain.AuthorizationResult;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link AuthorizationService}. Every operation returns
+ * immediately and completes its future once the underlying work is done, so callers
+ * never hold a request thread while waiting on the database or downstream services.
+ */
+public interface AsyncAuthorizationService {
+    /**
+     * Gets a page of authorization documents based on the given TIN.
+     *
+     * @param tin of the requester
+     * @param pageToken opaque token of the page to return, or null for the first page
+     * @param pageSize requested number of documents, or null for the configured default
+     * @return CompletableFuture containing the page of authorization documents
+     */
+    CompletableFuture<AuthorizationDocumentPage> getDocuments(String tin, String pageToken, Integer pageSize);
+
+    /**
+     * Gets an authorization document based on the given transaction ID.
+     *
+     * @param transactionId of the document to retrieve
+     * @param tin associated to the requested document
+     * @param tinType of the given tin
+     * @return CompletableFuture containing the authorization document
+     */
+    CompletableFuture<AuthorizationDocument> getDocument(String transactionId, String tin, String tinType);
+
+    /**
+     * Authorizes (approves or rejects) a document by the given transaction ID.
+     *
+     * @param action an APPROVE or REJECT authorization decision
+     * @param transactionId an identifier of the document
+     * @param documentTin tin associated to the document
+     * @param tinType type of tin associated to the document
+     * @param userId id of user performing the authorization
+     * @param userTin tin associated to the user
+     * @return CompletableFuture containing the updated authorization document
+     */
+    CompletableFuture<AuthorizationDocument> authorize(String action, String transactionId, String documentTin,
+            String tinType, String userId, String userTin);
+
+    /**
+     * Authorizes (approves or rejects) many documents at once.
+     *
+     * @param decisions transaction ID, document tin and APPROVE or REJECT action of each document
+     * @param userId id of user performing the authorization
+     * @param userTin tin associated to the user
+     * @return CompletableFuture containing one result per decision, in request order
+     */
+    CompletableFuture<List<AuthorizationResult>> authorizeAll(List<AuthorizationDecision> decisions,
+            String userId, String userTin);
+} 
\ No newline at end of file
@@ -1,17 +1,22 @@
 package gov.irs.ives.bwas.core.services;
 
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
 import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.domain.AuthorizationResult;
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
 import java.util.List;
 
 public interface AuthorizationService {
     /**
-     * Gets a paged list of authorization documents based on the given TIN.
+     * Gets a page of authorization documents based on the given TIN.
      *
      * @param tin of the requester
-     * @param page 0-based index of page of documents to return
-     * @return a paged list of authorization documents
+     * @param pageToken opaque token of the page to return, or null for the first page
+     * @param pageSize requested number of documents, or null for the configured default
+     * @return a page of authorization documents and the token for the next page
      */
-    List<AuthorizationDocument> getDocuments(String tin, int page);
+    AuthorizationDocumentPage getDocuments(String tin, String pageToken, Integer pageSize);
 
     /**
      * Gets an authorization document based on the given transaction ID.
@@ -36,4 +41,19 @@ public interface AuthorizationService {
      */
     AuthorizationDocument authorize(String action, String transactionId, String documentTin,
             String tinType, String userId, String userTin);
+
+    /**
+     * Authorizes (approves or rejects) many documents at once. All documents are loaded
+     * with one query and updated in one transaction as one batch of statements; each
+     * decision gets its own result, so a missing, invalid or concurrently decided entry
+     * does not fail the others. Approvals are signed by ESSAR
+     * before anything is updated, and an approval whose signature fails is left pending.
+     *
+     * @param decisions transaction ID, document tin and APPROVE or REJECT action of each document
+     * @param userId id of user performing the authorization
+     * @param userTin tin associated to the user
+     * @return one result per decision, in request order
+     * @throws InvalidRequestException if more decisions are given than a single call allows
+     */
+    List<AuthorizationResult> authorizeAll(List<AuthorizationDecision> decisions, String userId, String userTin);
 } 
\ No newline at end of file
@@ -0,0 +1,171 @@
+package gov.irs.ives.bwas.core.util;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Validates TINs and document types by checking characters directly, without regular
+ * expressions, trimming or any other allocation, so it is cheap enough to run on every
+ * request.
+ * <p>
+ * TINs are nine digits without separators, as stored throughout the application, and
+ * must follow the structure rules of their type:
+ * <ul>
+ *   <li>SSN: area (first three digits) not 000, 666 or 900-999, group not 00 and serial
+ *       not 0000</li>
+ *   <li>ITIN: starts with 9 and the fourth and fifth digits are in 50-65, 70-88, 90-92
+ *       or 94-99</li>
+ *   <li>EIN: the two-digit prefix is one the IRS assigns</li>
+ * </ul>
+ */
+public final class IdentifierValidator {
+
+    public static final String SSN = "SSN";
+    public static final String EIN = "EIN";
+    public static final String ITIN = "ITIN";
+
+    private static final int TIN_DIGITS = 9;
+
+    // Prefixes the IRS assigns to EINs; the gaps (00, 07-09, 17-19, 28-29, 49, 69-70,
+    // 78-79, 89, 96-97) are never issued
+    private static final boolean[] EIN_PREFIXES = ranges(100,
+            1, 6, 10, 16, 20, 27, 30, 48, 50, 68, 71, 77, 80, 88, 90, 95, 98, 99);
+
+    private static final boolean[] ITIN_GROUPS = ranges(100, 50, 65, 70, 88, 90, 92, 94, 99);
+
+    private IdentifierValidator() {
+    }
+
+    /**
+     * Checks that a TIN is nine digits, without type rules.
+     *
+     * @param tin the TIN to check
+     * @return true if well formed
+     */
+    public static boolean isWellFormed(String tin) {
+        return tin != null && digitsOf(tin) >= 0;
+    }
+
+    /**
+     * Checks a TIN against the structure rules of its type.
+     *
+     * @param tinType SSN, EIN or ITIN
+     * @param tin the TIN to check
+     * @return true if valid for the type; false for an unknown type
+     */
+    public static boolean isValid(String tinType, String tin) {
+        if (tinType == null || tin == null) {
+            return false;
+        }
+        return switch (tinType) {
+            case SSN -> isValidSsn(digitsOf(tin));
+            case ITIN -> isValidItin(digitsOf(tin));
+            case EIN -> isValidEin(digitsOf(tin));
+            default -> false;
+        };
+    }
+
+    /**
+     * Validates TINs of one type in bulk.
+     *
+     * @param tinType SSN, EIN or ITIN
+     * @param tins the TINs to check
+     * @return the indexes of the invalid TINs; empty if all are valid
+     */
+    public static BitSet findInvalid(String tinType, List<String> tins) {
+        BitSet invalid = new BitSet();
+        for (int i = 0; i < tins.size(); i++) {
+            if (!isValid(tinType, tins.get(i))) {
+                invalid.set(i);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Validates TINs of mixed types in bulk.
+     *
+     * @param tinTypes the type of each TIN
+     * @param tins the TINs to check, in the same order as their types
+     * @return the indexes of the invalid TINs; empty if all are valid
+     * @throws IllegalArgumentException if the lists differ in size
+     */
+    public static BitSet findInvalid(List<String> tinTypes, List<String> tins) {
+        if (tinTypes.size() != tins.size()) {
+            throw new IllegalArgumentException("Expected one TIN type per TIN but got "
+                    + tinTypes.size() + " types for " + tins.size() + " TINs");
+        }
+        BitSet invalid = new BitSet();
+        for (int i = 0; i < tins.size(); i++) {
+            if (!isValid(tinTypes.get(i), tins.get(i))) {
+                invalid.set(i);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Checks that a document type is 2 to 10 uppercase letters or digits.
+     *
+     * @param documentType the document type to check
+     * @return true if valid
+     */
+    public static boolean isValidDocumentType(String documentType) {
+        if (documentType == null || documentType.length() < 2 || documentType.length() > 10) {
+            return false;
+        }
+        for (int i = 0; i < documentType.length(); i++) {
+            char c = documentType.charAt(i);
+            if ((c < 'A' || c > 'Z') && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidSsn(int digits) {
+        if (digits < 0) {
+            return false;
+        }
+        int area = digits / 1_000_000;
+        int group = digits / 10_000 % 100;
+        int serial = digits % 10_000;
+        return area != 0 && area != 666 && area < 900 && group != 0 && serial != 0;
+    }
+
+    private static boolean isValidItin(int digits) {
+        return digits >= 0 && digits / 100_000_000 == 9 && ITIN_GROUPS[digits / 10_000 % 100];
+    }
+
+    private static boolean isValidEin(int digits) {
+        return digits >= 0 && EIN_PREFIXES[digits / 10_000_000];
+    }
+
+    /**
+     * @return the nine digits as a number, or -1 if not exactly nine digits
+     */
+    private static int digitsOf(String tin) {
+        if (tin.length() != TIN_DIGITS) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < TIN_DIGITS; i++) {
+            char c = tin.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean[] ranges(int size, int... bounds) {
+        boolean[] table = new boolean[size];
+        for (int i = 0; i < bounds.length; i += 2) {
+            for (int value = bounds[i]; value <= bounds[i + 1]; value++) {
+                table[value] = true;
+            }
+        }
+        return table;
+    }
+} 
\ No newline at end of file
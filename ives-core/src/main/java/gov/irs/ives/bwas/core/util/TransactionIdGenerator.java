@@ -0,0 +1,98 @@
+package gov.irs.ives.bwas.core.util;
+
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generates time-ordered, globally unique transaction IDs in the UUID version 7 layout
+ * of RFC 9562: 48 bits of Unix milliseconds, a 12-bit counter and 62 random bits.
+ * <p>
+ * IDs created later sort after earlier ones, so inserts append to the right edge of the
+ * primary key index instead of splitting pages all over it as random UUIDs do. Within a
+ * thread IDs are strictly increasing. The counter starts at a random value each
+ * millisecond and, if it runs out, borrows the next millisecond.
+ * <p>
+ * Each thread owns its own {@link SecureRandom} and draws entropy from it in blocks, so
+ * there is no lock shared between threads as with {@link UUID#randomUUID()}. The random
+ * bits stay unpredictable, which matters because transaction IDs appear in URLs.
+ */
+public final class TransactionIdGenerator {
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private static final int COUNTER_MASK = 0xFFF;
+    // Seeding below half the range leaves at least 2048 IDs per millisecond
+    private static final int COUNTER_SEED_MASK = 0x7FF;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private TransactionIdGenerator() {
+    }
+
+    /**
+     * @return a new transaction ID in canonical UUID text form
+     */
+    public static String next() {
+        return nextUuid().toString();
+    }
+
+    /**
+     * @return a new version 7 UUID
+     */
+    public static UUID nextUuid() {
+        return STATE.get().next(System.currentTimeMillis());
+    }
+
+    static final class State {
+
+        private static final int BLOCK_LONGS = 16;
+
+        private final SecureRandom random = newSecureRandom();
+        private final byte[] block = new byte[BLOCK_LONGS * Long.BYTES];
+        private final ByteBuffer entropy = ByteBuffer.wrap(block);
+        private long lastMillis = Long.MIN_VALUE;
+        private int counter;
+
+        State() {
+            entropy.position(entropy.limit());
+        }
+
+        UUID next(long now) {
+            long random = nextRandom();
+            if (now > lastMillis) {
+                lastMillis = now;
+                counter = (int) nextRandom() & COUNTER_SEED_MASK;
+            } else if (counter < COUNTER_MASK) {
+                // Same millisecond, or the clock went back: keep counting from the last ID
+                counter++;
+            } else {
+                lastMillis++;
+                counter = (int) nextRandom() & COUNTER_SEED_MASK;
+            }
+            long mostSigBits = lastMillis << 16 | VERSION | counter;
+            long leastSigBits = random & RANDOM_MASK | VARIANT;
+            return new UUID(mostSigBits, leastSigBits);
+        }
+
+        private long nextRandom() {
+            if (!entropy.hasRemaining()) {
+                random.nextBytes(block);
+                entropy.clear();
+            }
+            return entropy.getLong();
+        }
+
+        private static SecureRandom newSecureRandom() {
+            try {
+                // An instance of its own per thread; the platform default may share a
+                // lock across instances
+                return SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException ex) {
+                return new SecureRandom();
+            }
+        }
+    }
+} 
\ No newline at end of file
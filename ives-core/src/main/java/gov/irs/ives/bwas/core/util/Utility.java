@@ -5,7 +5,6 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
 
 /**
  * Utility class providing common functionality for the BWAS application.
@@ -17,12 +16,13 @@ public class Utility {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
 
     /**
-     * Generates a unique transaction ID.
+     * Generates a unique, time-ordered transaction ID.
      *
      * @return A unique transaction ID string
+     * @see TransactionIdGenerator
      */
     public static String generateTransactionId() {
-        return UUID.randomUUID().toString();
+        return TransactionIdGenerator.next();
     }
 
     /**
@@ -55,13 +55,10 @@ public class Utility {
      *
      * @param tin The TIN to validate
      * @return true if valid, false otherwise
+     * @see IdentifierValidator#isValid(String, String) for type-specific rules
      */
     public static boolean isValidTin(String tin) {
-        if (tin == null || tin.trim().isEmpty()) {
-            return false;
-        }
-        // Add TIN validation logic here
-        return tin.matches("\\d{9}");
+        return IdentifierValidator.isWellFormed(tin);
     }
 
     /**
@@ -71,10 +68,6 @@ public class Utility {
      * @return true if valid, false otherwise
      */
     public static boolean isValidDocumentType(String documentType) {
-        if (documentType == null || documentType.trim().isEmpty()) {
-            return false;
-        }
-        // Add document type validation logic here
-        return documentType.matches("[A-Z0-9]{2,10}");
+        return IdentifierValidator.isValidDocumentType(documentType);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,73 @@
+package gov.irs.ives.bwas.core.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IdentifierValidator} with the previous {@code String.matches} based
+ * checks in {@link Utility}, which compiled a pattern on every call. Run {@link #main}
+ * to include allocation per operation ({@code gc.alloc.rate.norm}) from the GC
+ * profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IdentifierValidatorPerformanceTest {
+
+    private final String[] tins = {"123456789", "987654321", "666456789", "12345678a", " 123456789"};
+    private final String[] documentTypes = {"F1040", "W2", "SSA1099", "f1040", "INVALID_TYPE"};
+
+    @Benchmark
+    public void tin_StringMatches(Blackhole blackhole) {
+        for (String tin : tins) {
+            blackhole.consume(tin != null && !tin.trim().isEmpty() && tin.matches("\\d{9}"));
+        }
+    }
+
+    @Benchmark
+    public void tin_WellFormed(Blackhole blackhole) {
+        for (String tin : tins) {
+            blackhole.consume(IdentifierValidator.isWellFormed(tin));
+        }
+    }
+
+    @Benchmark
+    public void tin_SsnRules(Blackhole blackhole) {
+        for (String tin : tins) {
+            blackhole.consume(IdentifierValidator.isValid(IdentifierValidator.SSN, tin));
+        }
+    }
+
+    @Benchmark
+    public void documentType_StringMatches(Blackhole blackhole) {
+        for (String documentType : documentTypes) {
+            blackhole.consume(documentType != null && !documentType.trim().isEmpty()
+                    && documentType.matches("[A-Z0-9]{2,10}"));
+        }
+    }
+
+    @Benchmark
+    public void documentType_CharacterCheck(Blackhole blackhole) {
+        for (String documentType : documentTypes) {
+            blackhole.consume(IdentifierValidator.isValidDocumentType(documentType));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(IdentifierValidatorPerformanceTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+} 
\ No newline at end of file
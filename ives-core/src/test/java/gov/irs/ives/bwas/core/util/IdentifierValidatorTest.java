@@ -0,0 +1,82 @@
+package gov.irs.ives.bwas.core.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentifierValidatorTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "SSN, 123456789, true",
+            "SSN, 899991234, true",
+            "SSN, 000456789, false",
+            "SSN, 666456789, false",
+            "SSN, 900456789, false",
+            "SSN, 123006789, false",
+            "SSN, 123450000, false",
+            "ITIN, 912701234, true",
+            "ITIN, 995501234, true",
+            "ITIN, 912691234, false",
+            "ITIN, 912931234, false",
+            "ITIN, 812701234, false",
+            "EIN, 123456789, true",
+            "EIN, 983456789, true",
+            "EIN, 013456789, true",
+            "EIN, 003456789, false",
+            "EIN, 073456789, false",
+            "EIN, 963456789, false",
+            "SSN, 12345678, false",
+            "SSN, 1234567890, false",
+            "SSN, 12345678a, false",
+            "SSN, 123-45-6789, false",
+            "TIN, 123456789, false",
+            "ssn, 123456789, false"
+    })
+    void isValid_ShouldApplyRulesOfTinType(String tinType, String tin, boolean expected) {
+        assertEquals(expected, IdentifierValidator.isValid(tinType, tin));
+    }
+
+    @Test
+    void isValid_WithNulls_ShouldReturnFalse() {
+        assertFalse(IdentifierValidator.isValid(null, "123456789"));
+        assertFalse(IdentifierValidator.isValid(IdentifierValidator.SSN, null));
+    }
+
+    @Test
+    void findInvalid_ShouldReturnIndexesOfInvalidTins() {
+        BitSet invalid = IdentifierValidator.findInvalid(IdentifierValidator.SSN,
+                List.of("123456789", "666456789", "987654321", "123456789"));
+
+        assertEquals(BitSet.valueOf(new long[]{0b0110}), invalid);
+    }
+
+    @Test
+    void findInvalid_WithMixedTypes_ShouldCheckEachAgainstItsType() {
+        BitSet invalid = IdentifierValidator.findInvalid(
+                List.of("SSN", "ITIN", "EIN", "EIN"),
+                List.of("123456789", "912701234", "963456789", "123456789"));
+
+        assertEquals(BitSet.valueOf(new long[]{0b0100}), invalid);
+    }
+
+    @Test
+    void findInvalid_WhenSizesDiffer_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentifierValidator.findInvalid(List.of("SSN"), List.of("123456789", "987654321")));
+    }
+
+    @Test
+    void isValidDocumentType_ShouldAcceptOnlyUppercaseLettersAndDigits() {
+        assertTrue(IdentifierValidator.isValidDocumentType("F1040"));
+        assertTrue(IdentifierValidator.isValidDocumentType("SSA1099"));
+        assertFalse(IdentifierValidator.isValidDocumentType("f1040"));
+        assertFalse(IdentifierValidator.isValidDocumentType("F-1040"));
+        assertFalse(IdentifierValidator.isValidDocumentType("ABCDEFGHIJK"));
+    }
+} 
\ No newline at end of file
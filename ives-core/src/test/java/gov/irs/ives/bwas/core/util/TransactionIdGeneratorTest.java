@@ -0,0 +1,75 @@
+package gov.irs.ives.bwas.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionIdGeneratorTest {
+
+    @Test
+    void nextUuid_ShouldBeVersion7WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = TransactionIdGenerator.nextUuid();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= after + 1);
+    }
+
+    @Test
+    void next_ShouldSortInCreationOrder() {
+        String previous = TransactionIdGenerator.next();
+        for (int i = 0; i < 10_000; i++) {
+            String current = TransactionIdGenerator.next();
+            assertTrue(current.compareTo(previous) > 0, previous + " then " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void next_WhenCounterExhaustedOrClockGoesBack_ShouldStayIncreasing() {
+        TransactionIdGenerator.State state = new TransactionIdGenerator.State();
+        UUID previous = state.next(1_000);
+        for (int i = 0; i < 5_000; i++) {
+            // 5000 IDs in one millisecond overflow the counter; then the clock steps back
+            UUID current = state.next(i < 4_000 ? 1_000 : 999);
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = current;
+        }
+        assertTrue(previous.getMostSignificantBits() >>> 16 > 1_000);
+    }
+
+    @Test
+    void next_FromManyThreads_ShouldBeUnique() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(TransactionIdGenerator.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(80_000, ids.size());
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,94 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.infrastructure.config.ResilienceProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits concurrent calls to a dependency with a limit that adapts to how the dependency
+ * copes (additive increase, multiplicative decrease). A fast successful call while the
+ * limit is at least half used raises the limit by about one per limit's worth of calls;
+ * a failed or slow call multiplies it by the backoff ratio. A degrading dependency thus
+ * quickly gets fewer concurrent calls, and calls over the limit are refused rather than
+ * queued.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long slowCallNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(String name, ResilienceProperties properties) {
+        this.name = name;
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.slowCallNanos = properties.getSlowCallDuration().toNanos();
+        this.limit = Math.max(minLimit, Math.min(properties.getInitialLimit(), maxLimit));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Asks to make a call. Every granted permit must be followed by exactly one of
+     * {@link #onSuccess}, {@link #onDropped} or {@link #release}.
+     *
+     * @return true if the call may proceed
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long durationNanos) {
+        int used = inFlight.getAndDecrement();
+        if (durationNanos >= slowCallNanos) {
+            decrease();
+        } else if (used * 2 >= limit) {
+            // Only grow while the limit is actually being used, otherwise it drifts up unchecked
+            increase();
+        }
+    }
+
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        decrease();
+    }
+
+    /**
+     * Returns a permit without adjusting the limit, for calls that were cancelled or
+     * failed for reasons unrelated to the dependency's capacity.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+} 
\ No newline at end of file
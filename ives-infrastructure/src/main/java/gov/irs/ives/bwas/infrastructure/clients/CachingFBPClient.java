@@ -0,0 +1,92 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import gov.irs.ives.bwas.infrastructure.config.DocumentCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Read-through cache for {@link FBPClient#getDocument(String)}. Entries are weighed by
+ * their approximate size and expire after the configured TTL. An authorization replaces
+ * the cached entry with the document FBP returns, or drops it if the call fails, so a
+ * read never serves the pre-authorization state. Documents are mutable, so every read
+ * returns a copy and the cache keeps its own, untouched by callers.
+ */
+public class CachingFBPClient implements FBPClient {
+
+    static final String CACHE_NAME = "fbp.documents";
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final FBPClient delegate;
+    private final AsyncCache<String, FBPDocument> documents;
+
+    public CachingFBPClient(FBPClient delegate, DocumentCacheProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.documents = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumSize().toBytes())
+                .weigher(CachingFBPClient::weigh)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, documents, CACHE_NAME);
+    }
+
+    @Override
+    public CompletableFuture<FBPDocument> getDocument(String transactionId) {
+        return documents.get(transactionId, (key, executor) -> delegate.getDocument(key))
+                .thenApply(CachingFBPClient::copy);
+    }
+
+    @Override
+    public CompletableFuture<List<FBPDocument>> getDocuments(String tin) {
+        return delegate.getDocuments(tin);
+    }
+
+    @Override
+    public Flow.Publisher<FBPDocument> streamDocuments(String tin) {
+        return delegate.streamDocuments(tin);
+    }
+
+    @Override
+    public Flow.Publisher<ByteBuffer> streamDocumentContent(String transactionId) {
+        return delegate.streamDocumentContent(transactionId);
+    }
+
+    @Override
+    public CompletableFuture<FBPDocument> authorize(String action, String transactionId, String tin, String signatureId,
+            String idempotencyKey) {
+        documents.synchronous().invalidate(transactionId);
+        return delegate.authorize(action, transactionId, tin, signatureId, idempotencyKey)
+                .whenComplete((document, error) -> {
+                    if (error == null && document != null) {
+                        documents.put(transactionId, CompletableFuture.completedFuture(copy(document)));
+                    } else {
+                        documents.synchronous().invalidate(transactionId);
+                    }
+                });
+    }
+
+    private static FBPDocument copy(FBPDocument document) {
+        return document != null ? document.toBuilder().build() : null;
+    }
+
+    private static int weigh(String transactionId, FBPDocument document) {
+        long weight = ENTRY_OVERHEAD_BYTES + transactionId.length()
+                + length(document.getDocumentContent())
+                + (document.getMetadata() != null ? document.getMetadata().size() : 0);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+} 
\ No newline at end of file
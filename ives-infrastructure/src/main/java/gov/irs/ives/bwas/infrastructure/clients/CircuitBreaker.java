@@ -0,0 +1,170 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.infrastructure.config.ResilienceProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker. While closed it records the outcome of the most recent
+ * calls in a ring buffer and opens once enough of them failed or were slow. While open
+ * every call is refused until the open duration has passed; it then turns half-open and
+ * admits a few trial calls, closing if they all succeed and opening again on the first
+ * failure or slow call.
+ * <p>
+ * State changes are rare and calls are remote, so a single lock keeps this simple
+ * without measurable contention.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final ResilienceProperties properties;
+    private final LongSupplier nanoTime;
+    private final byte[] outcomes;
+    private final long slowCallNanos;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, ResilienceProperties properties) {
+        this(name, properties, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, ResilienceProperties properties, LongSupplier nanoTime) {
+        this.name = name;
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.outcomes = new byte[properties.getSlidingWindowSize()];
+        this.slowCallNanos = properties.getSlowCallDuration().toNanos();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return failed calls as a share of the calls in the window, or 0 while the window is empty
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+
+    /**
+     * @return slow calls as a share of the calls in the window, or 0 while the window is empty
+     */
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0 : (double) slowCalls / recorded;
+    }
+
+    /**
+     * Asks to make a call. Every granted permission must be followed by exactly one of
+     * {@link #onSuccess}, {@link #onFailure} or {@link #release}.
+     *
+     * @return true if the call may proceed
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoTime.getAsLong() - openedAt < properties.getOpenDuration().toNanos()) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= properties.getHalfOpenCalls()) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        record(durationNanos >= slowCallNanos ? SLOW : SUCCESS);
+    }
+
+    public synchronized void onFailure() {
+        record(FAILURE);
+    }
+
+    /**
+     * Returns a permission without recording an outcome, for calls that were cancelled
+     * before they completed.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    private void record(byte outcome) {
+        switch (state) {
+            case HALF_OPEN -> {
+                if (outcome != SUCCESS) {
+                    open();
+                } else if (++halfOpenSuccesses >= properties.getHalfOpenCalls()) {
+                    close();
+                }
+            }
+            case CLOSED -> {
+                if (recorded == outcomes.length) {
+                    forget(outcomes[next]);
+                } else {
+                    recorded++;
+                }
+                outcomes[next] = outcome;
+                next = (next + 1) % outcomes.length;
+                if (outcome == FAILURE) {
+                    failures++;
+                } else if (outcome == SLOW) {
+                    slowCalls++;
+                }
+                if (recorded >= properties.getMinimumCalls()
+                        && (getFailureRate() >= properties.getFailureRateThreshold()
+                        || getSlowCallRate() >= properties.getSlowCallRateThreshold())) {
+                    open();
+                }
+            }
+            case OPEN -> {
+                // A late result of a call made before the breaker opened
+            }
+        }
+    }
+
+    private void forget(byte outcome) {
+        if (outcome == FAILURE) {
+            failures--;
+        } else if (outcome == SLOW) {
+            slowCalls--;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoTime.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,81 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.ports.FBPClient;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Coalesces concurrent identical FBP reads: callers asking for the same transaction ID
+ * or TIN while a request is in flight share that request. Each caller gets its own copy
+ * of the documents, since they are mutable. Authorizations are never coalesced since
+ * each one is a distinct decision.
+ * <p>
+ * Single document reads can be left uncoalesced for when a {@link CachingFBPClient} sits
+ * in front, as its cache already shares one load per transaction ID between callers.
+ */
+public class CoalescingFBPClient implements FBPClient {
+
+    private final FBPClient delegate;
+    private final RequestCoalescer<String, FBPDocument> documentRequests;
+    private final RequestCoalescer<String, List<FBPDocument>> documentListRequests =
+            new RequestCoalescer<>(CoalescingFBPClient::copy);
+
+    /**
+     * @param delegate client making the actual calls
+     * @param coalesceDocumentReads whether {@link #getDocument(String)} is coalesced too,
+     *        rather than passed straight through
+     */
+    public CoalescingFBPClient(FBPClient delegate, boolean coalesceDocumentReads) {
+        this.delegate = delegate;
+        this.documentRequests = coalesceDocumentReads ? new RequestCoalescer<>(CoalescingFBPClient::copy) : null;
+    }
+
+    @Override
+    public CompletableFuture<FBPDocument> getDocument(String transactionId) {
+        if (documentRequests == null) {
+            return delegate.getDocument(transactionId);
+        }
+        return documentRequests.execute(transactionId, () -> delegate.getDocument(transactionId));
+    }
+
+    @Override
+    public CompletableFuture<List<FBPDocument>> getDocuments(String tin) {
+        return documentListRequests.execute(tin, () -> delegate.getDocuments(tin));
+    }
+
+    @Override
+    public Flow.Publisher<FBPDocument> streamDocuments(String tin) {
+        return delegate.streamDocuments(tin);
+    }
+
+    @Override
+    public Flow.Publisher<ByteBuffer> streamDocumentContent(String transactionId) {
+        return delegate.streamDocumentContent(transactionId);
+    }
+
+    @Override
+    public CompletableFuture<FBPDocument> authorize(String action, String transactionId, String tin, String signatureId,
+            String idempotencyKey) {
+        return delegate.authorize(action, transactionId, tin, signatureId, idempotencyKey);
+    }
+
+    private static FBPDocument copy(FBPDocument document) {
+        return document != null ? document.toBuilder().build() : null;
+    }
+
+    private static List<FBPDocument> copy(List<FBPDocument> documents) {
+        if (documents == null) {
+            return null;
+        }
+        List<FBPDocument> copies = new ArrayList<>(documents.size());
+        for (FBPDocument document : documents) {
+            copies.add(copy(document));
+        }
+        return copies;
+    }
+} 
\ No newline at end of file
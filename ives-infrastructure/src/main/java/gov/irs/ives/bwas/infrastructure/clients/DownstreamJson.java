@@ -0,0 +1,356 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import gov.irs.ives.bwas.core.domain.EssarSignature;
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.domain.RawJson;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON decoding shared by the FBP and ESSAR clients. Responses are decoded straight into
+ * the domain types through their Lombok builders, configured with mix-ins so the core
+ * domain stays free of Jackson annotations. There is no intermediate response record
+ * and no copy between objects.
+ * <p>
+ * Timestamps in the usual ISO form are parsed straight from the parser's character
+ * buffer. Going through {@code DateTimeFormatter} allocated more than the rest of a
+ * document put together. Any other form falls back to the standard deserializer.
+ * Free-form values such as FBP metadata are captured as {@link RawJson} and left
+ * unparsed until read.
+ * <p>
+ * Readers are built once and reused. Building one per call, as the generic WebClient
+ * decoder does, allocates a new reader and re-resolves its configuration on every
+ * response.
+ */
+final class DownstreamJson {
+
+    static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json()
+            .mixIn(FBPDocument.class, FBPDocumentMixin.class)
+            .mixIn(FBPDocument.FBPDocumentBuilder.class, BuilderMixin.class)
+            .mixIn(EssarSignature.class, EssarSignatureMixin.class)
+            .mixIn(EssarSignature.EssarSignatureBuilder.class, EssarSignatureBuilderMixin.class)
+            .deserializerByType(LocalDateTime.class, new IsoLocalDateTimeDeserializer())
+            .deserializerByType(RawJson.class, new RawJsonDeserializer())
+            .build();
+
+    static final ObjectReader FBP_DOCUMENT = MAPPER.readerFor(FBPDocument.class);
+
+    static final String FBP_DOCUMENTS_FIELD = "documents";
+
+    static final ObjectReader FBP_DOCUMENT_LIST = MAPPER.readerForListOf(FBPDocument.class)
+            .at("/" + FBP_DOCUMENTS_FIELD);
+
+    static final ObjectReader ESSAR_SIGNATURE = MAPPER.readerFor(EssarSignature.class);
+
+    private DownstreamJson() {
+    }
+
+    /**
+     * Decodes a streamed FBP document list one document at a time as its buffers arrive.
+     * The list is either NDJSON, a top-level JSON array or the {@code {"documents": [...]}}
+     * wrapper FBP answers list requests with. Any other shape fails with a
+     * {@link DecodingException} rather than being decoded as a document.
+     *
+     * @param body the response body, released as it is read
+     * @param ndjson whether the body is newline-delimited JSON
+     * @return the decoded documents
+     */
+    static Flux<FBPDocument> readDocuments(Flux<DataBuffer> body, boolean ndjson) {
+        return Flux.defer(() -> {
+            DocumentListTokenizer tokenizer = new DocumentListTokenizer(ndjson);
+            return body.concatMapIterable(tokenizer::read)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.end())));
+        });
+    }
+
+    /**
+     * Decodes a complete response body and releases it.
+     */
+    static <T> T read(ObjectReader reader, DataBuffer body) {
+        try (InputStream in = body.asInputStream()) {
+            return reader.readValue(in);
+        } catch (IOException ex) {
+            throw new DecodingException("JSON decoding error: " + ex.getMessage(), ex);
+        } finally {
+            DataBufferUtils.release(body);
+        }
+    }
+
+    /**
+     * Finds the documents of a list in a non-blocking parser's tokens and decodes each one
+     * as soon as its closing brace arrives. Only the tokens of the current document are
+     * buffered; other fields of the wrapper are skipped without being kept.
+     */
+    static final class DocumentListTokenizer {
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final boolean ndjson;
+        // Nesting depth of the parser and depth at which list entries are documents, -1
+        // while not inside the list
+        private int depth;
+        private int listDepth;
+        private boolean rootSeen;
+        private boolean listFound;
+        private boolean listFieldNext;
+        private TokenBuffer document;
+
+        DocumentListTokenizer(boolean ndjson) {
+            try {
+                this.parser = MAPPER.getFactory().createNonBlockingByteBufferParser();
+            } catch (IOException ex) {
+                throw new IllegalStateException("Cannot create non-blocking JSON parser", ex);
+            }
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            this.ndjson = ndjson;
+            // NDJSON has no enclosing list: every root value is a document
+            this.listDepth = ndjson ? 0 : -1;
+            this.listFound = ndjson;
+        }
+
+        List<FBPDocument> read(DataBuffer buffer) {
+            List<FBPDocument> documents = new ArrayList<>();
+            try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+                while (chunks.hasNext()) {
+                    feeder.feedInput(chunks.next());
+                    parse(documents);
+                }
+            } catch (IOException ex) {
+                throw new DecodingException("JSON decoding error: " + ex.getMessage(), ex);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+            return documents;
+        }
+
+        List<FBPDocument> end() {
+            List<FBPDocument> documents = new ArrayList<>();
+            feeder.endOfInput();
+            try {
+                parse(documents);
+            } catch (IOException ex) {
+                throw new DecodingException("JSON decoding error: " + ex.getMessage(), ex);
+            }
+            if (!listFound) {
+                throw new DecodingException("Expected a JSON array or an object with a \""
+                        + FBP_DOCUMENTS_FIELD + "\" array");
+            }
+            if (depth != 0) {
+                throw new DecodingException("JSON decoding error: document list ended prematurely");
+            }
+            return documents;
+        }
+
+        private void parse(List<FBPDocument> documents) throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (document != null) {
+                    document.copyCurrentEvent(parser);
+                    depth += nesting(token);
+                    if (depth == listDepth) {
+                        documents.add(FBP_DOCUMENT.readValue(document.asParser()));
+                        document = null;
+                    }
+                } else if (depth == listDepth) {
+                    if (token == JsonToken.START_OBJECT) {
+                        document = new TokenBuffer(parser);
+                        document.copyCurrentEvent(parser);
+                        depth++;
+                    } else if (token == JsonToken.END_ARRAY && !ndjson) {
+                        depth--;
+                        listDepth = -1;
+                    } else {
+                        throw new DecodingException("Expected an FBP document but got " + token);
+                    }
+                } else if (listFieldNext) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new DecodingException("Expected \"" + FBP_DOCUMENTS_FIELD
+                                + "\" to be an array but got " + token);
+                    }
+                    listFieldNext = false;
+                    listFound = true;
+                    listDepth = ++depth;
+                } else if (depth == 0) {
+                    root(token);
+                } else {
+                    // Any other field of the wrapper
+                    listFieldNext = depth == 1 && token == JsonToken.FIELD_NAME && !listFound
+                            && FBP_DOCUMENTS_FIELD.equals(parser.currentName());
+                    depth += nesting(token);
+                }
+            }
+        }
+
+        private void root(JsonToken token) {
+            if (rootSeen || (token != JsonToken.START_ARRAY && token != JsonToken.START_OBJECT)) {
+                throw new DecodingException("Expected a JSON array or an object with a \""
+                        + FBP_DOCUMENTS_FIELD + "\" array but got " + token);
+            }
+            rootSeen = true;
+            depth = 1;
+            if (token == JsonToken.START_ARRAY) {
+                listFound = true;
+                listDepth = 1;
+            }
+        }
+
+        private static int nesting(JsonToken token) {
+            return token.isStructStart() ? 1 : token.isStructEnd() ? -1 : 0;
+        }
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm:ss[.fraction][Z]} without intermediate objects. A
+     * trailing Z is read as UTC, like the standard deserializer does in lenient mode.
+     */
+    static final class IsoLocalDateTimeDeserializer extends StdScalarDeserializer<LocalDateTime> {
+
+        private static final int SECONDS_LENGTH = 19;
+
+        IsoLocalDateTimeDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_STRING)) {
+                LocalDateTime value = parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                if (value != null) {
+                    return value;
+                }
+            }
+            return com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer.INSTANCE
+                    .deserialize(parser, context);
+        }
+
+        static LocalDateTime parse(char[] text, int offset, int length) {
+            if (length > 0 && text[offset + length - 1] == 'Z') {
+                length--;
+            }
+            if (length < SECONDS_LENGTH || text[offset + 4] != '-' || text[offset + 7] != '-'
+                    || text[offset + 10] != 'T' || text[offset + 13] != ':' || text[offset + 16] != ':') {
+                return null;
+            }
+            int year = digits(text, offset, 4);
+            int month = digits(text, offset + 5, 2);
+            int day = digits(text, offset + 8, 2);
+            int hour = digits(text, offset + 11, 2);
+            int minute = digits(text, offset + 14, 2);
+            int second = digits(text, offset + 17, 2);
+            int nanos = 0;
+            if (length > SECONDS_LENGTH) {
+                int fractionLength = length - SECONDS_LENGTH - 1;
+                if (text[offset + SECONDS_LENGTH] != '.' || fractionLength < 1 || fractionLength > 9) {
+                    return null;
+                }
+                nanos = digits(text, offset + SECONDS_LENGTH + 1, fractionLength);
+                for (int i = fractionLength; i < 9 && nanos >= 0; i++) {
+                    nanos *= 10;
+                }
+            }
+            if ((year | month | day | hour | minute | second | nanos) < 0) {
+                return null;
+            }
+            try {
+                return LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+            } catch (DateTimeException ex) {
+                return null;
+            }
+        }
+
+        // Returns -1 if any character is not a digit
+        private static int digits(char[] text, int from, int count) {
+            int value = 0;
+            for (int i = from; i < from + count; i++) {
+                int digit = text[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Captures any JSON value as compact raw bytes by copying its tokens to a generator.
+     * Strings and field names are copied from the parser's buffers, so no tree, map or
+     * string is built along the way.
+     */
+    static final class RawJsonDeserializer extends StdDeserializer<RawJson> {
+
+        private static final RawJson EMPTY_OBJECT = RawJson.of("{}");
+
+        RawJsonDeserializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public RawJson deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.START_OBJECT) && parser.nextToken() == JsonToken.END_OBJECT) {
+                return EMPTY_OBJECT;
+            }
+            ByteArrayBuilder out = new ByteArrayBuilder(128);
+            try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+                if (parser.hasToken(JsonToken.FIELD_NAME)) {
+                    // Already past the opening brace of a non-empty object
+                    generator.writeStartObject();
+                    while (parser.hasToken(JsonToken.FIELD_NAME)) {
+                        generator.copyCurrentEvent(parser);
+                        parser.nextToken();
+                        generator.copyCurrentStructure(parser);
+                        parser.nextToken();
+                    }
+                    generator.writeEndObject();
+                } else {
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+            return RawJson.wrap(out.toByteArray());
+        }
+    }
+
+    @JsonDeserialize(builder = FBPDocument.FBPDocumentBuilder.class)
+    private abstract static class FBPDocumentMixin {
+    }
+
+    @JsonDeserialize(builder = EssarSignature.EssarSignatureBuilder.class)
+    private abstract static class EssarSignatureMixin {
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    private abstract static class BuilderMixin {
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    private abstract static class EssarSignatureBuilderMixin {
+        // ESSAR calls the signature status just "status"
+        @JsonProperty("status")
+        abstract EssarSignature.EssarSignatureBuilder signatureStatus(String signatureStatus);
+    }
+} 
\ No newline at end of file
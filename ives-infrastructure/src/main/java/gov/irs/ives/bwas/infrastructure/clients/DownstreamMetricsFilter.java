@@ -0,0 +1,140 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records what each call to one downstream service costs, so slow authorizations can
+ * be traced to FBP, ESSAR or our own code. Clients name the operation with the
+ * {@link #OPERATION} request attribute.
+ * <p>
+ * As the outermost filter it sees calls the way callers do, including retries:
+ * <ul>
+ *   <li>{@code <client>.client.requests}: timer with percentile histogram up to the
+ *       response headers, tagged by operation, status, outcome and exception</li>
+ *   <li>{@code <client>.client.requests.active}: calls in flight</li>
+ *   <li>{@code <client>.client.response.size}: response body bytes per operation</li>
+ *   <li>{@code <client>.client.errors}: failed calls tagged by operation, type
+ *       (timeout, connection, server, client), status and exception</li>
+ * </ul>
+ */
+public class DownstreamMetricsFilter implements ExchangeFilterFunction {
+
+    /**
+     * Request attribute naming the client operation, set with
+     * {@code .attribute(DownstreamMetricsFilter.OPERATION, "getDocument")}.
+     */
+    public static final String OPERATION = DownstreamMetricsFilter.class.getName() + ".OPERATION";
+
+    private static final String NONE = "none";
+
+    private final String prefix;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public DownstreamMetricsFilter(String client, MeterRegistry meterRegistry) {
+        this.prefix = client + ".client.";
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(prefix + "requests.active", active, AtomicInteger::get)
+                .description("Calls in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String operation = request.attribute(OPERATION).map(Object::toString).orElse("unknown");
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean done = new AtomicBoolean();
+            active.incrementAndGet();
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        if (done.compareAndSet(false, true)) {
+                            active.decrementAndGet();
+                            onResponse(operation, sample, response.statusCode().value());
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (done.compareAndSet(false, true)) {
+                            active.decrementAndGet();
+                            onError(operation, sample, error);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (done.compareAndSet(false, true)) {
+                            active.decrementAndGet();
+                            sample.stop(timer(operation, "NONE", "CANCELLED", NONE));
+                        }
+                    })
+                    .map(response -> measureBody(operation, response));
+        });
+    }
+
+    private void onResponse(String operation, Timer.Sample sample, int status) {
+        String outcome = status >= 500 ? "SERVER_ERROR" : status >= 400 ? "CLIENT_ERROR" : "SUCCESS";
+        sample.stop(timer(operation, String.valueOf(status), outcome, NONE));
+        if (status >= 400) {
+            error(operation, status >= 500 ? "server" : "client", String.valueOf(status), NONE);
+        }
+    }
+
+    private void onError(String operation, Timer.Sample sample, Throwable error) {
+        String exception = error.getClass().getSimpleName();
+        sample.stop(timer(operation, "NONE", "UNKNOWN", exception));
+        error(operation, isTimeout(error) ? "timeout" : "connection", "NONE", exception);
+    }
+
+    private ClientResponse measureBody(String operation, ClientResponse response) {
+        DistributionSummary size = DistributionSummary.builder(prefix + "response.size")
+                .baseUnit("bytes")
+                .tags(Tags.of("operation", operation))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        AtomicLong bytes = new AtomicLong();
+        return response.mutate()
+                .body(body -> body
+                        .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                        .doOnComplete(() -> size.record(bytes.get())))
+                .build();
+    }
+
+    private Timer timer(String operation, String status, String outcome, String exception) {
+        return Timer.builder(prefix + "requests")
+                .tags(Tags.of("operation", operation, "status", status, "outcome", outcome, "exception", exception))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void error(String operation, String type, String status, String exception) {
+        Counter.builder(prefix + "errors")
+                .tags(Tags.of("operation", operation, "type", type, "status", status, "exception", exception))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        // Attempt timeouts surface as TimeoutException, Netty read and connect timeouts
+        // as a request exception caused by one of its timeout exceptions
+        if (error instanceof TimeoutException) {
+            return true;
+        }
+        return error instanceof WebClientRequestException
+                && (error.getCause() instanceof io.netty.handler.timeout.TimeoutException
+                || error.getCause() instanceof io.netty.channel.ConnectTimeoutException);
+    }
+} 
\ No newline at end of file
@@ -2,8 +2,11 @@ package gov.irs.ives.bwas.infrastructure.clients;
 
 import gov.irs.ives.bwas.core.domain.EssarSignature;
 import gov.irs.ives.bwas.core.ports.EssarClient;
-import lombok.RequiredArgsConstructor;
+import gov.irs.ives.bwas.infrastructure.tracing.ObservationPropagation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -11,14 +14,20 @@ import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 
 @Component
-@RequiredArgsConstructor
 public class EssarClientImpl implements EssarClient {
 
     private final WebClient webClient;
+    private final ObservationRegistry observationRegistry;
 
     @Value("${essar.service.url}")
     private String essarServiceUrl;
 
+    public EssarClientImpl(@Qualifier("essarWebClient") WebClient webClient,
+            ObservationRegistry observationRegistry) {
+        this.webClient = webClient;
+        this.observationRegistry = observationRegistry;
+    }
+
     @Override
     public CompletableFuture<EssarSignature> getElectronicSignature(
             String uuid, String transactionId, String userName, String tin,
@@ -26,22 +35,24 @@ public class EssarClientImpl implements EssarClient {
         
         return webClient.post()
                 .uri(essarServiceUrl + "/signatures")
+                .attribute(DownstreamMetricsFilter.OPERATION, "getElectronicSignature")
                 .bodyValue(new EssarSignatureRequest(uuid, transactionId, userName, tin, formType, appName, intentId))
                 .retrieve()
-                .bodyToMono(EssarSignatureResponse.class)
-                .map(response -> EssarSignature.builder()
-                        .signatureId(response.getSignatureId())
-                        .uuid(uuid)
-                        .transactionId(transactionId)
-                        .userName(userName)
-                        .tin(tin)
-                        .formType(formType)
-                        .appName(appName)
-                        .intentId(intentId)
-                        .signatureDate(LocalDateTime.now())
-                        .signatureStatus(response.getStatus())
-                        .signatureValue(response.getSignatureValue())
-                        .build())
+                .bodyToMono(DataBuffer.class)
+                .map(body -> {
+                    // ESSAR only returns the signature fields; the rest echo the request
+                    EssarSignature signature = DownstreamJson.read(DownstreamJson.ESSAR_SIGNATURE, body);
+                    signature.setUuid(uuid);
+                    signature.setTransactionId(transactionId);
+                    signature.setUserName(userName);
+                    signature.setTin(tin);
+                    signature.setFormType(formType);
+                    signature.setAppName(appName);
+                    signature.setIntentId(intentId);
+                    signature.setSignatureDate(LocalDateTime.now());
+                    return signature;
+                })
+                .contextWrite(ObservationPropagation.reactorContext(observationRegistry))
                 .toFuture();
     }
 
@@ -53,9 +64,4 @@ public class EssarClientImpl implements EssarClient {
             String formType,
             String appName,
             String intentId) {}
-
-    private record EssarSignatureResponse(
-            String signatureId,
-            String status,
-            String signatureValue) {}
 } 
\ No newline at end of file
@@ -2,89 +2,125 @@ package gov.irs.ives.bwas.infrastructure.clients;
 
 import gov.irs.ives.bwas.core.domain.FBPDocument;
 import gov.irs.ives.bwas.core.ports.FBPClient;
-import lombok.RequiredArgsConstructor;
+import gov.irs.ives.bwas.infrastructure.tracing.ObservationPropagation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.adapter.JdkFlowAdapter;
 
-import java.time.LocalDateTime;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 @Component
-@RequiredArgsConstructor
 public class FBPClientImpl implements FBPClient {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final WebClient webClient;
+    private final ObservationRegistry observationRegistry;
 
     @Value("${fbp.service.url}")
     private String fbpServiceUrl;
 
+    public FBPClientImpl(@Qualifier("fbpWebClient") WebClient webClient, ObservationRegistry observationRegistry) {
+        this.webClient = webClient;
+        this.observationRegistry = observationRegistry;
+    }
+
     @Override
     public CompletableFuture<FBPDocument> getDocument(String transactionId) {
         return webClient.get()
-                .uri(fbpServiceUrl + "/documents/" + transactionId)
+                .uri(fbpServiceUrl + "/documents/{transactionId}", transactionId)
+                .attribute(DownstreamMetricsFilter.OPERATION, "getDocument")
                 .retrieve()
-                .bodyToMono(FBPDocumentResponse.class)
-                .map(this::mapToFBPDocument)
+                .bodyToMono(DataBuffer.class)
+                .map(body -> DownstreamJson.<FBPDocument>read(DownstreamJson.FBP_DOCUMENT, body))
+                .contextWrite(ObservationPropagation.reactorContext(observationRegistry))
                 .toFuture();
     }
 
     @Override
     public CompletableFuture<List<FBPDocument>> getDocuments(String tin) {
         return webClient.get()
-                .uri(fbpServiceUrl + "/documents?tin=" + tin)
+                .uri(fbpServiceUrl + "/documents?tin={tin}", tin)
+                .attribute(DownstreamMetricsFilter.OPERATION, "getDocuments")
                 .retrieve()
-                .bodyToMono(FBPDocumentListResponse.class)
-                .map(response -> response.documents().stream()
-                        .map(this::mapToFBPDocument)
-                        .toList())
+                .bodyToMono(DataBuffer.class)
+                .map(body -> DownstreamJson.<List<FBPDocument>>read(DownstreamJson.FBP_DOCUMENT_LIST, body))
+                .contextWrite(ObservationPropagation.reactorContext(observationRegistry))
                 .toFuture();
     }
 
     @Override
-    public CompletableFuture<FBPDocument> authorize(String action, String transactionId, String tin, String signatureId) {
+    public Flow.Publisher<FBPDocument> streamDocuments(String tin) {
+        // NDJSON, a top-level JSON array or the documents wrapper are decoded document by
+        // document as they arrive
+        return JdkFlowAdapter.publisherToFlowPublisher(webClient.get()
+                .uri(fbpServiceUrl + "/documents?tin={tin}", tin)
+                .attribute(DownstreamMetricsFilter.OPERATION, "streamDocuments")
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .flatMapMany(response -> DownstreamJson.readDocuments(response.getBody(),
+                        MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType())))
+                .contextWrite(ObservationPropagation.reactorContext(observationRegistry)));
+    }
+
+    @Override
+    public Flow.Publisher<ByteBuffer> streamDocumentContent(String transactionId) {
+        // Each pooled network buffer is copied once into a chunk the subscriber owns and
+        // released straight away; the content is never joined into one array or String
+        return JdkFlowAdapter.publisherToFlowPublisher(webClient.get()
+                // Assumed path; to be confirmed with FBP before anything calls this
+                .uri(fbpServiceUrl + "/documents/{transactionId}/content", transactionId)
+                .attribute(DownstreamMetricsFilter.OPERATION, "streamDocumentContent")
+                .accept(MediaType.APPLICATION_OCTET_STREAM, MediaType.ALL)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .map(FBPClientImpl::toChunk)
+                .contextWrite(ObservationPropagation.reactorContext(observationRegistry)));
+    }
+
+    @Override
+    public CompletableFuture<FBPDocument> authorize(String action, String transactionId, String tin, String signatureId,
+            String idempotencyKey) {
         return webClient.post()
-                .uri(fbpServiceUrl + "/documents/" + transactionId + "/authorize")
+                .uri(fbpServiceUrl + "/documents/{transactionId}/authorize", transactionId)
+                .attribute(DownstreamMetricsFilter.OPERATION, "authorize")
+                // With a key FBP applies the decision at most once, so the POST is safe to retry
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set(IDEMPOTENCY_KEY, idempotencyKey);
+                    }
+                })
+                .attribute(RetryExchangeFilter.IDEMPOTENT, idempotencyKey != null)
                 .bodyValue(new FBPAuthorizationRequest(action, tin, signatureId))
                 .retrieve()
-                .bodyToMono(FBPDocumentResponse.class)
-                .map(this::mapToFBPDocument)
+                .bodyToMono(DataBuffer.class)
+                .map(body -> DownstreamJson.<FBPDocument>read(DownstreamJson.FBP_DOCUMENT, body))
+                .contextWrite(ObservationPropagation.reactorContext(observationRegistry))
                 .toFuture();
     }
 
-    private FBPDocument mapToFBPDocument(FBPDocumentResponse response) {
-        return FBPDocument.builder()
-                .transactionId(response.transactionId())
-                .tin(response.tin())
-                .documentType(response.documentType())
-                .documentStatus(response.documentStatus())
-                .authorizationStatus(response.authorizationStatus())
-                .signatureId(response.signatureId())
-                .createdDate(response.createdDate())
-                .updatedDate(response.updatedDate())
-                .documentContent(response.documentContent())
-                .metadata(response.metadata())
-                .build();
+    private static ByteBuffer toChunk(DataBuffer dataBuffer) {
+        try {
+            ByteBuffer chunk = ByteBuffer.allocate(dataBuffer.readableByteCount());
+            dataBuffer.toByteBuffer(chunk);
+            return chunk.asReadOnlyBuffer();
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
     }
 
     private record FBPAuthorizationRequest(
             String action,
             String tin,
             String signatureId) {}
-
-    private record FBPDocumentResponse(
-            String transactionId,
-            String tin,
-            String documentType,
-            String documentStatus,
-            String authorizationStatus,
-            String signatureId,
-            LocalDateTime createdDate,
-            LocalDateTime updatedDate,
-            String documentContent,
-            String metadata) {}
-
-    private record FBPDocumentListResponse(
-            List<FBPDocumentResponse> documents) {}
 } 
\ No newline at end of file
@@ -0,0 +1,56 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import gov.irs.ives.bwas.infrastructure.config.HedgingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Hedges FBP document reads to cut tail latency caused by occasional slow FBP nodes.
+ * Single-document and list reads each track their own latency and budget. Streams are
+ * not hedged since they are consumed incrementally, and authorizations are never hedged
+ * because they are not idempotent.
+ */
+public class HedgingFBPClient implements FBPClient {
+
+    private final FBPClient delegate;
+    private final RequestHedger<FBPDocument> documentRequests;
+    private final RequestHedger<List<FBPDocument>> documentListRequests;
+
+    public HedgingFBPClient(FBPClient delegate, HedgingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.documentRequests = new RequestHedger<>("getDocument", properties, meterRegistry);
+        this.documentListRequests = new RequestHedger<>("getDocuments", properties, meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<FBPDocument> getDocument(String transactionId) {
+        return documentRequests.execute(() -> delegate.getDocument(transactionId));
+    }
+
+    @Override
+    public CompletableFuture<List<FBPDocument>> getDocuments(String tin) {
+        return documentListRequests.execute(() -> delegate.getDocuments(tin));
+    }
+
+    @Override
+    public Flow.Publisher<FBPDocument> streamDocuments(String tin) {
+        return delegate.streamDocuments(tin);
+    }
+
+    @Override
+    public Flow.Publisher<ByteBuffer> streamDocumentContent(String transactionId) {
+        return delegate.streamDocumentContent(transactionId);
+    }
+
+    @Override
+    public CompletableFuture<FBPDocument> authorize(String action, String transactionId, String tin, String signatureId,
+            String idempotencyKey) {
+        return delegate.authorize(action, transactionId, tin, signatureId, idempotencyKey);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,139 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Single-flight execution of asynchronous calls: concurrent callers asking for the same
+ * key while a call is in flight share that call instead of starting their own.
+ * <p>
+ * Every caller receives its own future. Cancelling it detaches only that caller; the
+ * shared call is cancelled once every caller waiting on it has cancelled. Results and
+ * failures are delivered to all callers, and nothing is retained once the call completes.
+ * Mutable results are passed through a copier so no two callers share one instance.
+ *
+ * @param <K> key identifying equivalent calls
+ * @param <V> result type
+ */
+public class RequestCoalescer<K, V> {
+
+    private final Map<K, InFlight<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copier;
+
+    /**
+     * Creates a coalescer that hands every caller the same result instance.
+     */
+    public RequestCoalescer() {
+        this(UnaryOperator.identity());
+    }
+
+    /**
+     * Creates a coalescer that hands every caller its own copy of the result.
+     *
+     * @param copier copies a result; never called with a failed result
+     */
+    public RequestCoalescer(UnaryOperator<V> copier) {
+        this.copier = copier;
+    }
+
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        while (true) {
+            InFlight<V> existing = inFlight.get(key);
+            if (existing != null) {
+                CompletableFuture<V> joined = existing.join();
+                if (joined != null) {
+                    return joined;
+                }
+                // The existing call finished or was abandoned by all of its callers; start a new one
+                inFlight.remove(key, existing);
+                continue;
+            }
+
+            InFlight<V> started = new InFlight<>(copier);
+            if (inFlight.putIfAbsent(key, started) != null) {
+                continue;
+            }
+            CompletableFuture<V> caller = started.join();
+            // Unregister before completing so no caller can join a call that has already finished
+            started.start(call, () -> inFlight.remove(key, started));
+            return caller;
+        }
+    }
+
+    /**
+     * Number of distinct calls currently in flight.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static final class InFlight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+        private final UnaryOperator<V> copier;
+        private volatile CompletableFuture<V> upstream;
+
+        InFlight(UnaryOperator<V> copier) {
+            this.copier = copier;
+        }
+
+        void start(Supplier<CompletableFuture<V>> call, Runnable unregister) {
+            result.whenComplete((value, error) -> unregister.run());
+            CompletableFuture<V> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                unregister.run();
+                result.completeExceptionally(e);
+                return;
+            }
+            upstream = future;
+            future.whenComplete((value, error) -> {
+                unregister.run();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        }
+
+        /**
+         * Registers a new caller, or returns null if every previous caller already cancelled.
+         */
+        CompletableFuture<V> join() {
+            int current;
+            do {
+                current = waiters.get();
+                if (current < 0 || result.isDone()) {
+                    return null;
+                }
+            } while (!waiters.compareAndSet(current, current + 1));
+
+            CompletableFuture<V> caller = result.thenApply(copier);
+            caller.whenComplete((value, error) -> {
+                if (caller.isCancelled()) {
+                    leave();
+                }
+            });
+            return caller;
+        }
+
+        private void leave() {
+            if (waiters.updateAndGet(count -> count == 1 ? -1 : count - 1) == -1 && !result.isDone()) {
+                result.cancel(true);
+                CompletableFuture<V> call = upstream;
+                if (call != null) {
+                    call.cancel(true);
+                }
+            }
+        }
+    }
+} 
\ No newline at end of file
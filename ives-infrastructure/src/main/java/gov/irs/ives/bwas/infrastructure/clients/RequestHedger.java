@@ -0,0 +1,185 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.infrastructure.config.HedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Hedged execution of one kind of idempotent asynchronous call: if the call has not
+ * completed after a delay derived from recent latencies, a second identical call is
+ * started. The first successful result wins and the other call is cancelled; the result
+ * only fails if both calls fail. A failure before the hedge is sent is not retried.
+ * <p>
+ * Hedges draw on a budget that every call tops up by the configured ratio, so hedges
+ * stay at that fraction of calls even when the dependency is slow across the board.
+ * Counts of hedges sent, hedges that won and hedges skipped for lack of budget are
+ * published as {@code fbp.client.hedges} tagged by operation and outcome.
+ *
+ * @param <V> result type
+ */
+public class RequestHedger<V> {
+
+    private final HedgingProperties properties;
+    private final LatencyWindow latencies;
+    private final TokenBudget budget;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter throttled;
+
+    public RequestHedger(String operation, HedgingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.latencies = new LatencyWindow(properties.getWindowSize(), properties.getMinSamples(),
+                properties.getPercentile());
+        this.budget = new TokenBudget(properties.getBudgetRatio(), properties.getBudgetBurst());
+        this.sent = counter(meterRegistry, operation, "sent");
+        this.won = counter(meterRegistry, operation, "won");
+        this.throttled = counter(meterRegistry, operation, "throttled");
+        Gauge.builder("fbp.client.hedge.delay", this, hedger -> hedger.delayMillis())
+                .tag("operation", operation)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<V> execute(Supplier<CompletableFuture<V>> call) {
+        budget.deposit();
+
+        CompletableFuture<V> result = new CompletableFuture<>();
+        Attempt<V> primary = new Attempt<>();
+        start(primary, call, result, false);
+        Executor delayed = CompletableFuture.delayedExecutor(delayMillis(), TimeUnit.MILLISECONDS);
+        delayed.execute(() -> {
+            if (primary.future.isDone() || result.isDone()) {
+                return;
+            }
+            if (!budget.tryAcquire()) {
+                throttled.increment();
+                return;
+            }
+            sent.increment();
+            // Link both attempts first so whichever wins can always cancel the other
+            Attempt<V> hedge = new Attempt<>();
+            hedge.other = primary;
+            primary.other = hedge;
+            start(hedge, call, result, true);
+            // The primary may have completed while the hedge was being started
+            if (result.isDone()) {
+                hedge.cancel();
+            }
+        });
+        // A caller giving up cancels whatever is still running
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                primary.cancel();
+            }
+        });
+        return result;
+    }
+
+    long delayMillis() {
+        long percentile = latencies.percentileMillis();
+        long max = properties.getMaxDelay().toMillis();
+        if (percentile < 0) {
+            return max;
+        }
+        return Math.max(properties.getMinDelay().toMillis(), Math.min(percentile, max));
+    }
+
+    private void start(Attempt<V> attempt, Supplier<CompletableFuture<V>> call, CompletableFuture<V> result,
+            boolean hedge) {
+        long started = System.nanoTime();
+        attempt.future = call.get();
+        attempt.future.whenComplete((value, error) -> {
+            if (error == null) {
+                latencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                if (result.complete(value)) {
+                    if (hedge) {
+                        won.increment();
+                    }
+                    attempt.cancelOther();
+                }
+            } else if (attempt.other == null || attempt.other.failed()) {
+                // Nothing else can still answer
+                result.completeExceptionally(error);
+            }
+        });
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Counter.builder("fbp.client.hedges")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class Attempt<V> {
+        private volatile CompletableFuture<V> future;
+        private volatile Attempt<V> other;
+
+        private boolean failed() {
+            CompletableFuture<V> current = future;
+            return current != null && current.isCompletedExceptionally();
+        }
+
+        private void cancelOther() {
+            Attempt<V> loser = other;
+            if (loser != null && loser.future != null) {
+                loser.future.cancel(true);
+            }
+        }
+
+        private void cancel() {
+            if (future != null) {
+                future.cancel(true);
+            }
+            cancelOther();
+        }
+    }
+
+    /**
+     * The most recent successful latencies in a ring buffer. The percentile is recomputed
+     * every few samples rather than on every read, since a sort per call would cost more
+     * than it is worth.
+     */
+    private static final class LatencyWindow {
+
+        private static final int REFRESH_INTERVAL = 32;
+
+        private final long[] samples;
+        private final int minSamples;
+        private final double percentile;
+        private int next;
+        private int count;
+        private int sinceRefresh;
+        private volatile long percentileMillis = -1;
+
+        private LatencyWindow(int size, int minSamples, double percentile) {
+            this.samples = new long[size];
+            this.minSamples = Math.min(minSamples, size);
+            this.percentile = percentile;
+        }
+
+        private synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            if (++sinceRefresh >= REFRESH_INTERVAL && count >= minSamples) {
+                sinceRefresh = 0;
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(percentile * count) - 1;
+                percentileMillis = sorted[Math.max(0, Math.min(index, count - 1))];
+            }
+        }
+
+        private long percentileMillis() {
+            return percentileMillis;
+        }
+    }
+} 
\ No newline at end of file
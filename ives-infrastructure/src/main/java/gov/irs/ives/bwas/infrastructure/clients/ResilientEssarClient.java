@@ -0,0 +1,126 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.EssarSignature;
+import gov.irs.ives.bwas.core.exceptions.DependencyUnavailableException;
+import gov.irs.ives.bwas.core.ports.EssarClient;
+import gov.irs.ives.bwas.infrastructure.config.ResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Protects the application from a degraded ESSAR. Every call is bounded by a timeout,
+ * passes a {@link CircuitBreaker} and an {@link AdaptiveConcurrencyLimiter}, and fails
+ * immediately with a {@link DependencyUnavailableException} when either refuses it, so
+ * a sick ESSAR turns into quick errors instead of a growing backlog of open calls.
+ * <p>
+ * Timeouts, connection errors and 5xx responses count as failures. A 4xx response means
+ * the request was wrong, not that ESSAR is unhealthy, so it counts as a success for the
+ * breaker and leaves the concurrency limit alone. Cancelled calls are not counted.
+ */
+public class ResilientEssarClient implements EssarClient {
+
+    static final String DEPENDENCY = "essar";
+
+    private final EssarClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long timeoutMillis;
+    private final Counter circuitOpenRejections;
+    private final Counter limitRejections;
+
+    public ResilientEssarClient(EssarClient delegate, CircuitBreaker circuitBreaker,
+            AdaptiveConcurrencyLimiter limiter, ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.limiter = limiter;
+        this.timeoutMillis = properties.getTimeout().toMillis();
+        this.circuitOpenRejections = rejections(meterRegistry, "circuit_open");
+        this.limitRejections = rejections(meterRegistry, "concurrency_limit");
+        Gauge.builder("essar.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        Gauge.builder("essar.client.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("essar.client.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<EssarSignature> getElectronicSignature(
+            String uuid, String transactionId, String userName, String tin,
+            String formType, String appName, String intentId) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitOpenRejections.increment();
+            return CompletableFuture.failedFuture(new DependencyUnavailableException(DEPENDENCY,
+                    "ESSAR is unavailable, circuit breaker is open"));
+        }
+        if (!limiter.tryAcquire()) {
+            circuitBreaker.release();
+            limitRejections.increment();
+            return CompletableFuture.failedFuture(new DependencyUnavailableException(DEPENDENCY,
+                    "ESSAR is at its concurrency limit of " + limiter.getLimit()));
+        }
+
+        long started = System.nanoTime();
+        CompletableFuture<EssarSignature> result = new CompletableFuture<>();
+        CompletableFuture<EssarSignature> call;
+        try {
+            call = delegate.getElectronicSignature(uuid, transactionId, userName, tin, formType, appName, intentId);
+        } catch (RuntimeException ex) {
+            call = CompletableFuture.failedFuture(ex);
+        }
+        call.whenComplete((signature, error) -> {
+            if (error == null) {
+                result.complete(signature);
+            } else {
+                result.completeExceptionally(unwrap(error));
+            }
+        });
+        CompletableFuture.delayedExecutor(timeoutMillis, TimeUnit.MILLISECONDS).execute(() ->
+                result.completeExceptionally(
+                        new TimeoutException("ESSAR signature timed out after " + timeoutMillis + " ms")));
+
+        CompletableFuture<EssarSignature> inFlight = call;
+        result.whenComplete((signature, error) -> {
+            long duration = System.nanoTime() - started;
+            Throwable cause = error != null ? unwrap(error) : null;
+            if (cause == null) {
+                circuitBreaker.onSuccess(duration);
+                limiter.onSuccess(duration);
+                return;
+            }
+            if (cause instanceof CancellationException) {
+                circuitBreaker.release();
+                limiter.release();
+            } else if (cause instanceof WebClientResponseException response
+                    && response.getStatusCode().is4xxClientError()) {
+                circuitBreaker.onSuccess(duration);
+                limiter.release();
+            } else {
+                circuitBreaker.onFailure();
+                limiter.onDropped();
+            }
+            // Timed out or abandoned by the caller: stop the call and free its connection
+            inFlight.cancel(true);
+        });
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("essar.client.rejections")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,148 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.infrastructure.config.RetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retries transient failures of one downstream service's requests with exponential
+ * backoff and jitter. Each attempt is bounded by its own timeout until the response
+ * headers arrive.
+ * <p>
+ * Only requests that are safe to repeat are retried: GET and HEAD, and requests marked
+ * with the {@link #IDEMPOTENT} attribute. Any request, including a non-idempotent POST,
+ * is retried if the connection could not be established, since it was never sent.
+ * Retryable failures are connection errors, attempt timeouts and the configured 5xx
+ * statuses; after the last attempt the final response or error reaches the caller
+ * unchanged.
+ * <p>
+ * All requests through the filter share one {@link TokenBudget}, so during an outage
+ * retries add at most the configured fraction of load instead of multiplying it.
+ * Retries are counted in {@code <client>.client.retries} tagged by reason, and retries
+ * refused for lack of budget in {@code <client>.client.retry.budget.exhausted}.
+ */
+public class RetryExchangeFilter implements ExchangeFilterFunction {
+
+    /**
+     * Request attribute marking a request as safe to retry regardless of its method,
+     * set with {@code .attribute(RetryExchangeFilter.IDEMPOTENT, true)}.
+     */
+    public static final String IDEMPOTENT = RetryExchangeFilter.class.getName() + ".IDEMPOTENT";
+
+    private final RetryProperties properties;
+    private final TokenBudget budget;
+    private final Counter statusRetries;
+    private final Counter timeoutRetries;
+    private final Counter connectionRetries;
+    private final Counter budgetExhausted;
+
+    public RetryExchangeFilter(String client, RetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.budget = new TokenBudget(properties.getBudgetRatio(), properties.getBudgetBurst());
+        this.statusRetries = retries(meterRegistry, client, "status");
+        this.timeoutRetries = retries(meterRegistry, client, "timeout");
+        this.connectionRetries = retries(meterRegistry, client, "connection");
+        this.budgetExhausted = Counter.builder(client + ".client.retry.budget.exhausted").register(meterRegistry);
+        Gauge.builder(client + ".client.retry.budget", budget, TokenBudget::available).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        budget.deposit();
+        boolean idempotent = isIdempotent(request);
+        AtomicInteger attempts = new AtomicInteger();
+        return Mono.defer(() -> {
+                    int attempt = attempts.incrementAndGet();
+                    return next.exchange(request)
+                            .timeout(properties.getAttemptTimeout())
+                            .flatMap(response -> {
+                                if (idempotent && attempt < properties.getMaxAttempts()
+                                        && properties.getRetryableStatuses().contains(response.statusCode().value())
+                                        && acquire()) {
+                                    statusRetries.increment();
+                                    return response.releaseBody()
+                                            .then(Mono.error(new RetryableStatusException()));
+                                }
+                                return Mono.just(response);
+                            });
+                })
+                .retryWhen(Retry.backoff(properties.getMaxAttempts() - 1, properties.getInitialBackoff())
+                        .maxBackoff(properties.getMaxBackoff())
+                        .jitter(properties.getJitter())
+                        .filter(error -> error instanceof RetryableStatusException
+                                || shouldRetry(error, idempotent))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private boolean shouldRetry(Throwable error, boolean idempotent) {
+        Counter retries = retryCounter(error, idempotent);
+        if (retries == null || !acquire()) {
+            return false;
+        }
+        retries.increment();
+        return true;
+    }
+
+    private Counter retryCounter(Throwable error, boolean idempotent) {
+        if (isConnectFailure(error)) {
+            return connectionRetries;
+        }
+        if (!idempotent) {
+            return null;
+        }
+        if (error instanceof TimeoutException) {
+            return timeoutRetries;
+        }
+        if (error instanceof WebClientRequestException) {
+            return connectionRetries;
+        }
+        return null;
+    }
+
+    private boolean acquire() {
+        if (budget.tryAcquire()) {
+            return true;
+        }
+        budgetExhausted.increment();
+        return false;
+    }
+
+    private static boolean isIdempotent(ClientRequest request) {
+        HttpMethod method = request.method();
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)
+                || Boolean.TRUE.equals(request.attribute(IDEMPOTENT).orElse(false));
+    }
+
+    private static boolean isConnectFailure(Throwable error) {
+        return error instanceof WebClientRequestException && error.getCause() instanceof ConnectException;
+    }
+
+    private static Counter retries(MeterRegistry meterRegistry, String client, String reason) {
+        return Counter.builder(client + ".client.retries")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Signals a retryable status to the retry operator. Only raised while attempts and
+     * budget remain, so it never reaches the caller.
+     */
+    private static final class RetryableStatusException extends RuntimeException {
+        private RetryableStatusException() {
+            super(null, null, false, false);
+        }
+    }
+} 
\ No newline at end of file
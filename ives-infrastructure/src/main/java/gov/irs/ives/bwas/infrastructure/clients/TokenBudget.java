@@ -0,0 +1,58 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that caps extra work, such as retries or hedged requests, at a fraction
+ * of the regular work. Every regular request deposits the configured ratio of a token
+ * and every extra request spends a whole one, with the balance capped at the burst
+ * allowance. The bucket starts full so a burst is allowed right after startup.
+ */
+public class TokenBudget {
+
+    // Tokens are kept in thousandths so fractional ratios need no floating point
+    private static final long TOKEN = 1000;
+
+    private final AtomicLong balance;
+    private final long deposit;
+    private final long cap;
+
+    public TokenBudget(double ratio, int burst) {
+        this.deposit = Math.round(ratio * TOKEN);
+        this.cap = burst * TOKEN;
+        this.balance = new AtomicLong(cap);
+    }
+
+    /**
+     * Records a regular request.
+     */
+    public void deposit() {
+        if (balance.get() < cap) {
+            balance.accumulateAndGet(deposit, (current, added) -> Math.min(current + added, cap));
+        }
+    }
+
+    /**
+     * Spends one token if available.
+     *
+     * @return true if the extra request may be made
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return whole tokens currently available
+     */
+    public long available() {
+        return balance.get() / TOKEN;
+    }
+} 
\ No newline at end of file
@@ -1,8 +1,16 @@
 package gov.irs.ives.bwas.infrastructure.config;
 
+import gov.irs.ives.bwas.infrastructure.tracing.ObservationPropagation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
@@ -10,8 +18,38 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  */
 @Configuration
 @EnableAsync
+@EnableScheduling
 @EnableTransactionManagement
 @EnableConfigurationProperties
 public class ApplicationConfig {
-    // Configuration properties and beans will be added here as needed
+
+    public static final String AUTHORIZATION_EXECUTOR = "authorizationExecutor";
+
+    /**
+     * Bounded executor for the blocking parts of asynchronous authorization requests.
+     * Size it close to the database connection pool; work beyond the queue capacity is
+     * rejected rather than queued without limit. Tasks run in the observation of the
+     * thread that submitted them, so their work stays in the request's trace.
+     */
+    @Bean(AUTHORIZATION_EXECUTOR)
+    public ThreadPoolTaskExecutor authorizationExecutor(
+            @Value("${authorization.async.pool-size:10}") int poolSize,
+            @Value("${authorization.async.queue-capacity:500}") int queueCapacity,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("authorization-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setTaskDecorator(ObservationPropagation.taskDecorator(
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)));
+        return executor;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "authorization.outbox")
+    public OutboxProperties outboxProperties() {
+        return new OutboxProperties();
+    }
 } 
\ No newline at end of file
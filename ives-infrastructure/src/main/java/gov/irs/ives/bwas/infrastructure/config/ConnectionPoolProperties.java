@@ -0,0 +1,25 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Connection pool, timeout and codec settings for a single downstream service.
+ * Bound per downstream (e.g. {@code fbp.client.pool.*}, {@code essar.client.pool.*})
+ * so each dependency gets its own bulkhead. Max in-memory size caps how much of a
+ * response body is buffered for decoding; larger bodies fail rather than exhaust heap.
+ */
+@Data
+public class ConnectionPoolProperties {
+    private int maxConnections = 50;
+    private int pendingAcquireMaxCount = 100;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    private Duration evictionInterval = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration responseTimeout = Duration.ofSeconds(10);
+    private DataSize maxInMemorySize = DataSize.ofKilobytes(512);
+} 
\ No newline at end of file
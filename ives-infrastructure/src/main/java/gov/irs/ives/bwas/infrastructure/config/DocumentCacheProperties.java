@@ -0,0 +1,18 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the read-through cache in front of FBP document reads.
+ * The cache is bounded by the approximate in-memory size of the cached
+ * documents rather than by entry count, since document content varies widely.
+ */
+@Data
+public class DocumentCacheProperties {
+    private boolean enabled = true;
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+    private Duration ttl = Duration.ofMinutes(5);
+} 
\ No newline at end of file
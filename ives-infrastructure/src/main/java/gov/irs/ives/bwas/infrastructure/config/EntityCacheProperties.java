@@ -0,0 +1,17 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Settings for an in-process cache of authorization documents, either by transaction ID
+ * or as pages by TIN. Local writes evict entries immediately; the TTL bounds how long a
+ * write made by another instance can go unnoticed.
+ */
+@Data
+public class EntityCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(1);
+} 
\ No newline at end of file
@@ -0,0 +1,47 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import gov.irs.ives.bwas.core.ports.EssarClient;
+import gov.irs.ives.bwas.infrastructure.clients.AdaptiveConcurrencyLimiter;
+import gov.irs.ives.bwas.infrastructure.clients.CircuitBreaker;
+import gov.irs.ives.bwas.infrastructure.clients.EssarClientImpl;
+import gov.irs.ives.bwas.infrastructure.clients.ResilientEssarClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Composes the {@link EssarClient} exposed to the rest of the application from the
+ * HTTP implementation and the resilience layer in front of it.
+ */
+@Configuration
+public class EssarClientConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "essar.client.resilience")
+    public ResilienceProperties essarResilienceProperties() {
+        return new ResilienceProperties();
+    }
+
+    @Bean
+    public CircuitBreaker essarCircuitBreaker() {
+        return new CircuitBreaker("essar", essarResilienceProperties());
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter essarConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter("essar", essarResilienceProperties());
+    }
+
+    @Bean
+    @Primary
+    public EssarClient essarClient(EssarClientImpl essarClientImpl, MeterRegistry meterRegistry) {
+        ResilienceProperties properties = essarResilienceProperties();
+        if (!properties.isEnabled()) {
+            return essarClientImpl;
+        }
+        return new ResilientEssarClient(essarClientImpl, essarCircuitBreaker(), essarConcurrencyLimiter(),
+                properties, meterRegistry);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,55 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import gov.irs.ives.bwas.infrastructure.clients.CachingFBPClient;
+import gov.irs.ives.bwas.infrastructure.clients.CoalescingFBPClient;
+import gov.irs.ives.bwas.infrastructure.clients.FBPClientImpl;
+import gov.irs.ives.bwas.infrastructure.clients.HedgingFBPClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Composes the {@link FBPClient} exposed to the rest of the application from the
+ * HTTP implementation and the optional decorators layered in front of it.
+ */
+@Configuration
+public class FBPClientConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "fbp.client.cache")
+    public DocumentCacheProperties fbpDocumentCacheProperties() {
+        return new DocumentCacheProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "fbp.client.hedging")
+    public HedgingProperties fbpHedgingProperties() {
+        return new HedgingProperties();
+    }
+
+    @Bean
+    @Primary
+    public FBPClient fbpClient(FBPClientImpl fbpClientImpl, MeterRegistry meterRegistry,
+            @Value("${fbp.client.coalescing.enabled:true}") boolean coalescingEnabled) {
+        FBPClient client = fbpClientImpl;
+        // Innermost, so only reads that actually go over the network are hedged
+        HedgingProperties hedgingProperties = fbpHedgingProperties();
+        if (hedgingProperties.isEnabled()) {
+            client = new HedgingFBPClient(client, hedgingProperties, meterRegistry);
+        }
+        DocumentCacheProperties cacheProperties = fbpDocumentCacheProperties();
+        if (coalescingEnabled) {
+            // The document cache already shares one load per transaction ID, so with it
+            // enabled only list reads need coalescing
+            client = new CoalescingFBPClient(client, !cacheProperties.isEnabled());
+        }
+        if (cacheProperties.isEnabled()) {
+            client = new CachingFBPClient(client, cacheProperties, meterRegistry);
+        }
+        return client;
+    }
+} 
\ No newline at end of file
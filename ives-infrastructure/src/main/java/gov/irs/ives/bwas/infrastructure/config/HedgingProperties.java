@@ -0,0 +1,23 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Settings for hedged FBP reads. A read that has not answered after the configured
+ * latency percentile of recent reads is sent a second time; the delay is kept between
+ * the minimum and maximum, and the maximum is used until enough reads were observed.
+ * The budget limits hedges to a fraction of reads, with a small burst allowance.
+ */
+@Data
+public class HedgingProperties {
+    private boolean enabled = false;
+    private double percentile = 0.95;
+    private Duration minDelay = Duration.ofMillis(20);
+    private Duration maxDelay = Duration.ofSeconds(1);
+    private int minSamples = 100;
+    private int windowSize = 1024;
+    private double budgetRatio = 0.05;
+    private int budgetBurst = 10;
+} 
\ No newline at end of file
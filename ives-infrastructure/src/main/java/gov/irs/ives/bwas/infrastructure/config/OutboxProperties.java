@@ -0,0 +1,22 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Settings for the dispatcher that drains the authorization outbox to FBP.
+ * The lease must comfortably exceed the dispatch timeout so a claimed event is
+ * never picked up again while its first delivery is still in flight. An event whose
+ * delivery has failed {@code maxAttempts} times is marked dead.
+ */
+@Data
+public class OutboxProperties {
+    private int batchSize = 100;
+    private int maxConcurrency = 8;
+    private Duration dispatchTimeout = Duration.ofSeconds(5);
+    private Duration lease = Duration.ofSeconds(30);
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+    private int maxAttempts = 10;
+} 
\ No newline at end of file
@@ -0,0 +1,69 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationRepositoryImpl;
+import gov.irs.ives.bwas.infrastructure.persistence.CachingAuthorizationRepository;
+import gov.irs.ives.bwas.infrastructure.persistence.PageCachingAuthorizationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Hibernate settings for the authorization persistence layer. Statement batching and
+ * ordering let multi-row writes such as bulk authorizations go to the database as
+ * JDBC batches instead of one round-trip per row. Also composes the
+ * {@link AuthorizationRepository} exposed to the services from the JPA implementation
+ * and the optional caches in front of it.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer(
+            @Value("${authorization.persistence.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+            properties.put("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "authorization.documents.cache")
+    public EntityCacheProperties authorizationDocumentCacheProperties() {
+        return new EntityCacheProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "authorization.documents.page-cache")
+    public EntityCacheProperties authorizationDocumentPageCacheProperties() {
+        // Pages hold up to max-page-size documents each, so keep fewer of them by default.
+        // Off by default: with more than one replica, a page can miss another replica's
+        // write for up to the TTL (see PageCachingAuthorizationRepository).
+        EntityCacheProperties properties = new EntityCacheProperties();
+        properties.setEnabled(false);
+        properties.setMaximumSize(1_000);
+        return properties;
+    }
+
+    @Bean
+    @Primary
+    public AuthorizationRepository authorizationRepository(AuthorizationRepositoryImpl authorizationRepositoryImpl,
+            MeterRegistry meterRegistry) {
+        AuthorizationRepository repository = authorizationRepositoryImpl;
+        EntityCacheProperties cacheProperties = authorizationDocumentCacheProperties();
+        if (cacheProperties.isEnabled()) {
+            repository = new CachingAuthorizationRepository(repository, cacheProperties, meterRegistry);
+        }
+        EntityCacheProperties pageCacheProperties = authorizationDocumentPageCacheProperties();
+        if (pageCacheProperties.isEnabled()) {
+            repository = new PageCachingAuthorizationRepository(repository, pageCacheProperties, meterRegistry);
+        }
+        return repository;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,52 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import gov.irs.ives.bwas.infrastructure.clients.AdaptiveConcurrencyLimiter;
+import gov.irs.ives.bwas.infrastructure.clients.CircuitBreaker;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator endpoint showing the state of the circuit breakers and concurrency limits
+ * guarding downstream clients, at {@code /actuator/resilience} once it is included in
+ * {@code management.endpoints.web.exposure.include}. The same values are published as
+ * gauges for dashboards and alerts.
+ */
+@Component
+@Endpoint(id = "resilience")
+public class ResilienceEndpoint {
+
+    private final List<CircuitBreaker> circuitBreakers;
+    private final List<AdaptiveConcurrencyLimiter> limiters;
+
+    public ResilienceEndpoint(List<CircuitBreaker> circuitBreakers, List<AdaptiveConcurrencyLimiter> limiters) {
+        this.circuitBreakers = circuitBreakers;
+        this.limiters = limiters;
+    }
+
+    @ReadOperation
+    public ResilienceReport resilience() {
+        Map<String, CircuitBreakerState> breakerStates = new TreeMap<>();
+        for (CircuitBreaker breaker : circuitBreakers) {
+            breakerStates.put(breaker.getName(), new CircuitBreakerState(breaker.getState().name(),
+                    breaker.getFailureRate(), breaker.getSlowCallRate()));
+        }
+        Map<String, ConcurrencyLimitState> limitStates = new TreeMap<>();
+        for (AdaptiveConcurrencyLimiter limiter : limiters) {
+            limitStates.put(limiter.getName(), new ConcurrencyLimitState(limiter.getLimit(), limiter.getInFlight()));
+        }
+        return new ResilienceReport(breakerStates, limitStates);
+    }
+
+    public record ResilienceReport(
+            Map<String, CircuitBreakerState> circuitBreakers,
+            Map<String, ConcurrencyLimitState> concurrencyLimits) {}
+
+    public record CircuitBreakerState(String state, double failureRate, double slowCallRate) {}
+
+    public record ConcurrencyLimitState(int limit, int inFlight) {}
+} 
\ No newline at end of file
@@ -0,0 +1,29 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Settings for the circuit breaker and adaptive concurrency limit in front of a
+ * downstream client. The breaker opens when, over the last sliding-window-size calls,
+ * the share of failed or slow calls reaches its threshold; after open-duration it lets
+ * half-open-calls trial calls through and closes again if all of them succeed. A call
+ * slower than slow-call-duration also tells the concurrency limit to back off.
+ */
+@Data
+public class ResilienceProperties {
+    private boolean enabled = true;
+    private Duration timeout = Duration.ofSeconds(5);
+    private int slidingWindowSize = 50;
+    private int minimumCalls = 20;
+    private double failureRateThreshold = 0.5;
+    private Duration slowCallDuration = Duration.ofSeconds(2);
+    private double slowCallRateThreshold = 0.8;
+    private Duration openDuration = Duration.ofSeconds(30);
+    private int halfOpenCalls = 5;
+    private int initialLimit = 20;
+    private int minLimit = 2;
+    private int maxLimit = 200;
+    private double backoffRatio = 0.9;
+} 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Retry settings for a single downstream service, bound per downstream (e.g.
+ * {@code fbp.client.retry.*}). Max attempts includes the first one. Backoff doubles from
+ * the initial value up to the maximum and is randomised by the jitter factor. Retries are
+ * capped by a budget of budget-ratio retries per request, with a burst allowance.
+ */
+@Data
+public class RetryProperties {
+    private boolean enabled = true;
+    private int maxAttempts = 3;
+    private Duration attemptTimeout = Duration.ofSeconds(3);
+    private Duration initialBackoff = Duration.ofMillis(100);
+    private Duration maxBackoff = Duration.ofSeconds(2);
+    private double jitter = 0.5;
+    private Set<Integer> retryableStatuses = Set.of(502, 503, 504);
+    private double budgetRatio = 0.1;
+    private int budgetBurst = 20;
+} 
\ No newline at end of file
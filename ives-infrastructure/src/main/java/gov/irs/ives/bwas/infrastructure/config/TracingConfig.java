@@ -0,0 +1,46 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import gov.irs.ives.bwas.infrastructure.tracing.LocalSpanExporter;
+import gov.irs.ives.bwas.infrastructure.tracing.SamplingTracingHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Traces requests through the observations the application already makes: the
+ * {@code http.server.requests} observation of each incoming request is the root span,
+ * classes annotated with {@code @Observed} (controllers, services and the JPA repository)
+ * add a child span per call, and WebClient exchanges add the downstream HTTP spans. The
+ * downstream clients are deliberately not {@code @Observed}: the aspect would hand callers
+ * a new future whose cancellation no longer reaches the HTTP exchange. The handler is registered with the observation registry by Spring
+ * Boot like any other {@code ObservationHandler} bean. Kept traces go to the
+ * {@link LocalSpanExporter}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "tracing")
+    public TracingProperties tracingProperties() {
+        return new TracingProperties();
+    }
+
+    @Bean
+    public LocalSpanExporter localSpanExporter() {
+        return new LocalSpanExporter(tracingProperties().getExporterCapacity());
+    }
+
+    @Bean
+    public SamplingTracingHandler samplingTracingHandler(LocalSpanExporter localSpanExporter) {
+        return new SamplingTracingHandler(tracingProperties(), localSpanExporter);
+    }
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+} 
\ No newline at end of file
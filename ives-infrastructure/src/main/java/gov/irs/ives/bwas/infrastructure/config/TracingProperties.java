@@ -0,0 +1,24 @@
+package gov.irs.ives.bwas.infrastructure.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Tracing settings, bound from {@code tracing.*}. The head sample rate is the fraction of
+ * new traces whose spans are recorded; once such a trace completes it is exported if it
+ * failed, took at least the tail latency threshold, or falls within the tail sample rate.
+ * Every other trace only keeps a root marker, shared by its nested observations, and is
+ * exported as its root span alone if it failed or was slow. A trace joined from an
+ * upstream {@code traceparent} header follows the upstream decision.
+ */
+@Data
+public class TracingProperties {
+    private boolean enabled = true;
+    private double headSampleRate = 0.1;
+    private Duration tailLatencyThreshold = Duration.ofSeconds(1);
+    private boolean tailKeepErrors = true;
+    private double tailSampleRate = 0.1;
+    private int maxSpansPerTrace = 256;
+    private int exporterCapacity = 10_000;
+} 
\ No newline at end of file
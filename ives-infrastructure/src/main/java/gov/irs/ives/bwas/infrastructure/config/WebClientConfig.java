@@ -1,15 +1,106 @@
 package gov.irs.ives.bwas.infrastructure.config;
 
+import gov.irs.ives.bwas.infrastructure.clients.DownstreamMetricsFilter;
+import gov.irs.ives.bwas.infrastructure.clients.RetryExchangeFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+/**
+ * Builds one WebClient per downstream service, each backed by its own Reactor Netty
+ * connection pool so a slow dependency cannot exhaust connections needed by another.
+ * Pool gauges are published under {@code reactor.netty.connection.provider.*} tagged
+ * with the pool name. Transient failures of idempotent requests are retried per service
+ * by a {@link RetryExchangeFilter} with its own retry budget, and every call is measured
+ * by an outer {@link DownstreamMetricsFilter}. Exchanges are observed, so a traced
+ * request gets a span per outgoing call.
+ */
 @Configuration
 public class WebClientConfig {
 
+    public static final String FBP_POOL = "fbp";
+    public static final String ESSAR_POOL = "essar";
+
+    @Bean
+    @ConfigurationProperties(prefix = "fbp.client.pool")
+    public ConnectionPoolProperties fbpConnectionPoolProperties() {
+        return new ConnectionPoolProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "essar.client.pool")
+    public ConnectionPoolProperties essarConnectionPoolProperties() {
+        return new ConnectionPoolProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "fbp.client.retry")
+    public RetryProperties fbpRetryProperties() {
+        return new RetryProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "essar.client.retry")
+    public RetryProperties essarRetryProperties() {
+        return new RetryProperties();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider fbpConnectionProvider() {
+        return connectionProvider(FBP_POOL, fbpConnectionPoolProperties());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider essarConnectionProvider() {
+        return connectionProvider(ESSAR_POOL, essarConnectionPoolProperties());
+    }
+
+    @Bean
+    public WebClient fbpWebClient(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        return webClient(FBP_POOL, fbpConnectionProvider(), fbpConnectionPoolProperties(),
+                fbpRetryProperties(), meterRegistry, observationRegistry);
+    }
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public WebClient essarWebClient(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        return webClient(ESSAR_POOL, essarConnectionProvider(), essarConnectionPoolProperties(),
+                essarRetryProperties(), meterRegistry, observationRegistry);
+    }
+
+    private static ConnectionProvider connectionProvider(String name, ConnectionPoolProperties properties) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictionInterval())
+                .metrics(true)
                 .build();
     }
+
+    private static WebClient webClient(String name, ConnectionProvider provider, ConnectionPoolProperties properties,
+                                       RetryProperties retryProperties, MeterRegistry meterRegistry,
+                                       ObservationRegistry observationRegistry) {
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout());
+        WebClient.Builder builder = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) properties.getMaxInMemorySize().toBytes()))
+                .observationRegistry(observationRegistry)
+                .filter(new DownstreamMetricsFilter(name, meterRegistry));
+        if (retryProperties.isEnabled()) {
+            builder.filter(new RetryExchangeFilter(name, retryProperties, meterRegistry));
+        }
+        return builder.build();
+    }
 } 
\ No newline at end of file
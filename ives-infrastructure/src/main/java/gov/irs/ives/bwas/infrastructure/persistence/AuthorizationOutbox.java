@@ -0,0 +1,79 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Transactional outbox for authorization decisions that still have to reach FBP.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorizationOutbox {
+
+    private final JpaAuthorizationOutboxRepository jpaRepository;
+
+    /**
+     * Records decisions for delivery. Must run inside the transaction that updates the
+     * documents, so a decision is either both recorded and queued or neither.
+     *
+     * @param events to record
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Collection<AuthorizationOutboxEvent> events) {
+        if (!events.isEmpty()) {
+            jpaRepository.saveAll(events);
+        }
+    }
+
+    /**
+     * Claims up to {@code batchSize} due events by pushing their next attempt past the
+     * lease. The claim commits immediately, so no lock is held while they are delivered.
+     *
+     * @param batchSize maximum number of events to claim
+     * @param lease how long the events stay invisible to other dispatchers
+     * @return the claimed events, oldest first
+     */
+    @Transactional
+    public List<AuthorizationOutboxEvent> claim(int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<AuthorizationOutboxEvent> events = jpaRepository.findDueHeads(now, PageRequest.ofSize(batchSize));
+        LocalDateTime leasedUntil = now.plus(lease);
+        for (AuthorizationOutboxEvent event : events) {
+            event.setNextAttemptAt(leasedUntil);
+        }
+        return events;
+    }
+
+    /**
+     * Removes delivered events.
+     *
+     * @param ids of the delivered events
+     */
+    @Transactional
+    public void complete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jpaRepository.deleteAllByIdInBatch(ids);
+        }
+    }
+
+    /**
+     * Stores the updated attempt count, next attempt time, error and dead mark of failed
+     * events.
+     *
+     * @param events that failed delivery
+     */
+    @Transactional
+    public void reschedule(Collection<AuthorizationOutboxEvent> events) {
+        if (!events.isEmpty()) {
+            jpaRepository.saveAll(events);
+        }
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,77 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * An authorization decision that has been recorded locally but not yet delivered to FBP.
+ * Rows are written in the same transaction as the document update and deleted once FBP
+ * has accepted the decision. An event that fails too often is marked dead and kept for
+ * inspection instead of being retried.
+ */
+@Entity
+@Table(name = "authorization_outbox",
+        indexes = {
+                @Index(name = "idx_authorization_outbox_transaction", columnList = "transaction_id, id"),
+                @Index(name = "idx_authorization_outbox_next_attempt", columnList = "next_attempt_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+public class AuthorizationOutboxEvent {
+
+    // Sequence rather than identity ids so inserts can be sent as JDBC batches
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authorization_outbox_seq")
+    @SequenceGenerator(name = "authorization_outbox_seq", sequenceName = "authorization_outbox_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false)
+    private String transactionId;
+
+    @Column(nullable = false)
+    private String action;
+
+    @Column(nullable = false)
+    private String tin;
+
+    @Column(name = "signature_id")
+    private String signatureId;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "dead_at")
+    private LocalDateTime deadAt;
+
+    public AuthorizationOutboxEvent(String transactionId, String action, String tin, String signatureId,
+            LocalDateTime createdDate) {
+        this.transactionId = transactionId;
+        this.action = action;
+        this.tin = tin;
+        this.signatureId = signatureId;
+        this.createdDate = createdDate;
+        this.nextAttemptAt = createdDate;
+    }
+} 
\ No newline at end of file
@@ -1,23 +1,68 @@
 package gov.irs.ives.bwas.infrastructure.persistence;
 
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
 import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentSummary;
+import gov.irs.ives.bwas.core.exceptions.AuthorizationConflictException;
 import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Observed(name = "authorization.repository")
 @RequiredArgsConstructor
 public class AuthorizationRepositoryImpl implements AuthorizationRepository {
 
+    /*
+     * The statement of JpaAuthorizationRepository.updateAuthorizationStatus in SQL, since
+     * JPQL bulk updates cannot be batched. Runs on the connection of the surrounding JPA
+     * transaction.
+     */
+    private static final String UPDATE_AUTHORIZATION_STATUS = """
+            update authorization_document
+            set authorization_status = ?, updated_date = ?, version = version + 1
+            where transaction_id = ? and tin = ? and authorization_status = ?""";
+
     private final JpaAuthorizationRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
-    public List<AuthorizationDocument> findByTin(String tin, int page) {
-        return jpaRepository.findByTinOrderByCreatedDateDesc(tin);
+    public AuthorizationDocumentPage findByTin(String tin, String pageToken, int pageSize) {
+        // Fetch one extra row to learn whether another page exists without a count query
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<AuthorizationDocumentSummary> rows;
+        if (pageToken == null || pageToken.isEmpty()) {
+            rows = jpaRepository.findFirstPage(tin, limit);
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(pageToken);
+            rows = jpaRepository.findPageAfter(tin, cursor.createdDate(), cursor.transactionId(), limit);
+        }
+
+        String nextPageToken = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            AuthorizationDocumentSummary last = rows.get(pageSize - 1);
+            nextPageToken = new KeysetCursor(last.createdDate(), last.transactionId()).encode();
+        }
+        return AuthorizationDocumentPage.builder()
+                .documents(Collections.unmodifiableList(rows))
+                .nextPageToken(nextPageToken)
+                .pageSize(pageSize)
+                .build();
     }
 
     @Override
@@ -25,9 +70,68 @@ public class AuthorizationRepositoryImpl implements AuthorizationRepository {
         return jpaRepository.findById(transactionId);
     }
 
+    @Override
+    public List<AuthorizationDocument> findByTransactionIds(Collection<String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(transactionIds);
+    }
+
     @Override
     public AuthorizationDocument save(AuthorizationDocument document) {
-        return jpaRepository.save(document);
+        // Flush here so a version conflict surfaces from this call rather than at commit
+        try {
+            return jpaRepository.saveAndFlush(document);
+        } catch (OptimisticLockingFailureException ex) {
+            throw new AuthorizationConflictException(document.getTransactionId(),
+                    "Document " + document.getTransactionId() + " was changed by another request", ex);
+        }
+    }
+
+    @Override
+    public List<AuthorizationDocument> saveAll(Collection<AuthorizationDocument> documents) {
+        if (documents.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return jpaRepository.saveAllAndFlush(documents);
+        } catch (OptimisticLockingFailureException ex) {
+            String transactionId = ex instanceof ObjectOptimisticLockingFailureException objectEx
+                    ? String.valueOf(objectEx.getIdentifier()) : null;
+            throw new AuthorizationConflictException(transactionId,
+                    "Document " + transactionId + " was changed by another request", ex);
+        }
+    }
+
+    @Override
+    public boolean updateAuthorizationStatus(String transactionId, String tin, String expectedStatus,
+            String authorizationStatus, LocalDateTime updatedDate) {
+        return jpaRepository.updateAuthorizationStatus(transactionId, tin, expectedStatus, authorizationStatus,
+                updatedDate) == 1;
+    }
+
+    @Override
+    public boolean[] updateAuthorizationStatuses(List<AuthorizationDecision> decisions, String expectedStatus,
+            LocalDateTime updatedDate) {
+        boolean[] updated = new boolean[decisions.size()];
+        if (decisions.isEmpty()) {
+            return updated;
+        }
+        List<Object[]> arguments = new ArrayList<>(decisions.size());
+        for (AuthorizationDecision decision : decisions) {
+            arguments.add(new Object[] {decision.getAction(), updatedDate, decision.getTransactionId(),
+                    decision.getDocumentTin(), expectedStatus});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_AUTHORIZATION_STATUS, arguments);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                // Without row counts there is no telling which decisions applied
+                throw new IllegalStateException("The database did not report the rows updated by the batch");
+            }
+            updated[i] = counts[i] == 1;
+        }
+        return updated;
     }
 
     @Override
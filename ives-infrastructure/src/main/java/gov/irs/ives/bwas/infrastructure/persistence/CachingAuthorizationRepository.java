@@ -0,0 +1,110 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.infrastructure.config.EntityCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Caches {@link AuthorizationRepository#findByTransactionId(String)} in front of the
+ * database. Every write evicts the affected entries, and evicts them again once the
+ * surrounding transaction completes so a read that raced the uncommitted write cannot
+ * leave the old row cached. Callers receive copies, so changing a returned document
+ * never alters the cached one.
+ */
+public class CachingAuthorizationRepository implements AuthorizationRepository {
+
+    static final String CACHE_NAME = "authorization.documents";
+
+    private final AuthorizationRepository delegate;
+    private final Cache<String, AuthorizationDocument> documents;
+
+    public CachingAuthorizationRepository(AuthorizationRepository delegate, EntityCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, documents, CACHE_NAME);
+    }
+
+    @Override
+    public AuthorizationDocumentPage findByTin(String tin, String pageToken, int pageSize) {
+        return delegate.findByTin(tin, pageToken, pageSize);
+    }
+
+    @Override
+    public Optional<AuthorizationDocument> findByTransactionId(String transactionId) {
+        AuthorizationDocument cached = documents.get(transactionId,
+                key -> delegate.findByTransactionId(key).map(CachingAuthorizationRepository::copy).orElse(null));
+        return Optional.ofNullable(cached).map(CachingAuthorizationRepository::copy);
+    }
+
+    @Override
+    public List<AuthorizationDocument> findByTransactionIds(Collection<String> transactionIds) {
+        return delegate.findByTransactionIds(transactionIds);
+    }
+
+    @Override
+    public AuthorizationDocument save(AuthorizationDocument document) {
+        evict(List.of(document.getTransactionId()));
+        return delegate.save(document);
+    }
+
+    @Override
+    public List<AuthorizationDocument> saveAll(Collection<AuthorizationDocument> documents) {
+        evict(documents.stream().map(AuthorizationDocument::getTransactionId).toList());
+        return delegate.saveAll(documents);
+    }
+
+    @Override
+    public boolean updateAuthorizationStatus(String transactionId, String tin, String expectedStatus,
+            String authorizationStatus, LocalDateTime updatedDate) {
+        evict(List.of(transactionId));
+        return delegate.updateAuthorizationStatus(transactionId, tin, expectedStatus, authorizationStatus,
+                updatedDate);
+    }
+
+    @Override
+    public boolean[] updateAuthorizationStatuses(List<AuthorizationDecision> decisions, String expectedStatus,
+            LocalDateTime updatedDate) {
+        evict(decisions.stream().map(AuthorizationDecision::getTransactionId).toList());
+        return delegate.updateAuthorizationStatuses(decisions, expectedStatus, updatedDate);
+    }
+
+    @Override
+    public void delete(String transactionId) {
+        evict(List.of(transactionId));
+        delegate.delete(transactionId);
+    }
+
+    private void evict(List<String> transactionIds) {
+        documents.invalidateAll(transactionIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    documents.invalidateAll(transactionIds);
+                }
+            });
+        }
+    }
+
+    private static AuthorizationDocument copy(AuthorizationDocument document) {
+        return document.toBuilder().build();
+    }
+} 
\ No newline at end of file
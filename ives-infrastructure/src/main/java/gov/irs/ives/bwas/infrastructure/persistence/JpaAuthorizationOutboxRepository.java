@@ -0,0 +1,36 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JpaAuthorizationOutboxRepository extends JpaRepository<AuthorizationOutboxEvent, Long> {
+
+    /**
+     * Locks the due events that are the oldest pending event of their transaction ID.
+     * Later events for the same transaction wait until the head is delivered, which keeps
+     * delivery in order per transaction; a dead head is never claimed, so it parks the
+     * events behind it. Rows already locked by another dispatcher are skipped rather than
+     * waited on.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select e from AuthorizationOutboxEvent e
+            where e.nextAttemptAt <= :now
+              and e.deadAt is null
+              and e.id = (select min(o.id) from AuthorizationOutboxEvent o
+                          where o.transactionId = e.transactionId)
+            order by e.id""")
+    List<AuthorizationOutboxEvent> findDueHeads(@Param("now") LocalDateTime now, Pageable pageable);
+} 
\ No newline at end of file
@@ -1,12 +1,67 @@
 package gov.irs.ives.bwas.infrastructure.persistence;
 
 import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface JpaAuthorizationRepository extends JpaRepository<AuthorizationDocument, String> {
-    List<AuthorizationDocument> findByTinOrderByCreatedDateDesc(String tin);
+
+    /*
+     * List reads select the columns straight into immutable summaries. Nothing enters the
+     * persistence context, so there are no managed entities or dirty-checking snapshots.
+     * Ordering by the TIN, which is fixed by the filter, spells out the full column order
+     * of idx_authorization_document_tin_created so the page is read in index order without
+     * a sort even on databases that do not skip equality-bound leading index columns.
+     */
+    @Query("""
+            select new gov.irs.ives.bwas.core.domain.AuthorizationDocumentSummary(
+                d.transactionId, d.tin, d.tinType, d.status, d.createdDate, d.updatedDate,
+                d.documentType, d.documentStatus, d.authorizationStatus)
+            from AuthorizationDocument d
+            where d.tin = :tin
+            order by d.tin, d.createdDate desc, d.transactionId desc""")
+    List<AuthorizationDocumentSummary> findFirstPage(@Param("tin") String tin, Pageable pageable);
+
+    @Query("""
+            select new gov.irs.ives.bwas.core.domain.AuthorizationDocumentSummary(
+                d.transactionId, d.tin, d.tinType, d.status, d.createdDate, d.updatedDate,
+                d.documentType, d.documentStatus, d.authorizationStatus)
+            from AuthorizationDocument d
+            where d.tin = :tin
+              and (d.createdDate < :createdDate
+                   or (d.createdDate = :createdDate and d.transactionId < :transactionId))
+            order by d.tin, d.createdDate desc, d.transactionId desc""")
+    List<AuthorizationDocumentSummary> findPageAfter(@Param("tin") String tin,
+                                                     @Param("createdDate") LocalDateTime createdDate,
+                                                     @Param("transactionId") String transactionId,
+                                                     Pageable pageable);
+
+    /*
+     * Compare-and-set in one statement: the row only changes if it still has the expected
+     * status, so of two concurrent decisions exactly one matches. Bumping the version makes
+     * optimistic writes of the same row that loaded it earlier fail instead of overwriting.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update AuthorizationDocument d
+            set d.authorizationStatus = :authorizationStatus,
+                d.updatedDate = :updatedDate,
+                d.version = d.version + 1
+            where d.transactionId = :transactionId
+              and d.tin = :tin
+              and d.authorizationStatus = :expectedStatus""")
+    int updateAuthorizationStatus(@Param("transactionId") String transactionId,
+                                  @Param("tin") String tin,
+                                  @Param("expectedStatus") String expectedStatus,
+                                  @Param("authorizationStatus") String authorizationStatus,
+                                  @Param("updatedDate") LocalDateTime updatedDate);
 } 
\ No newline at end of file
@@ -0,0 +1,43 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page on the (createdDate DESC, transactionId DESC)
+ * ordering, serialized as an opaque URL-safe token. Both columns are NOT NULL, so every
+ * row has a position.
+ */
+record KeysetCursor(LocalDateTime createdDate, String transactionId) {
+
+    private static final char SEPARATOR = '|';
+
+    static KeysetCursor decode(String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid page token", e);
+        }
+        int separator = decoded.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == decoded.length() - 1) {
+            throw new InvalidRequestException("Invalid page token");
+        }
+        try {
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    decoded.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid page token", e);
+        }
+    }
+
+    String encode() {
+        String raw = createdDate.toString() + SEPARATOR + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+} 
\ No newline at end of file
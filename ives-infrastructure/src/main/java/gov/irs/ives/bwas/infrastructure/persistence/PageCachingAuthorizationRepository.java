@@ -0,0 +1,149 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.infrastructure.config.EntityCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Caches pages of {@link AuthorizationRepository#findByTin} keyed by TIN, page token and
+ * page size. Each TIN has a version that is part of the key; once a write touching the TIN
+ * has run, the TIN moves to a new version, which makes all of its cached pages unreachable
+ * at once without having to find them. The version moves again when the surrounding
+ * transaction completes, so a page read before the commit is never served afterwards.
+ * <p>
+ * Versions live in this process only. Another replica does not see the new version and
+ * keeps serving its cached pages of the TIN, without the write, for up to the configured
+ * TTL. The cache is therefore off by default and should only be enabled where that
+ * staleness window is acceptable or the service runs as a single instance.
+ * <p>
+ * Pages hold immutable summaries, so cached pages are shared with callers as they are.
+ * Versions are drawn from one global counter and never reused, so a TIN whose version
+ * entry was evicted gets a fresh number rather than colliding with its old pages.
+ */
+public class PageCachingAuthorizationRepository implements AuthorizationRepository {
+
+    static final String CACHE_NAME = "authorization.document-pages";
+
+    private final AuthorizationRepository delegate;
+    private final Cache<PageKey, AuthorizationDocumentPage> pages;
+    private final Cache<String, Long> versions;
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public PageCachingAuthorizationRepository(AuthorizationRepository delegate, EntityCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(properties.getTtl())
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+    }
+
+    @Override
+    public AuthorizationDocumentPage findByTin(String tin, String pageToken, int pageSize) {
+        PageKey key = new PageKey(tin, version(tin), pageToken, pageSize);
+        return pages.get(key, ignored -> delegate.findByTin(tin, pageToken, pageSize));
+    }
+
+    @Override
+    public Optional<AuthorizationDocument> findByTransactionId(String transactionId) {
+        return delegate.findByTransactionId(transactionId);
+    }
+
+    @Override
+    public List<AuthorizationDocument> findByTransactionIds(Collection<String> transactionIds) {
+        return delegate.findByTransactionIds(transactionIds);
+    }
+
+    @Override
+    public AuthorizationDocument save(AuthorizationDocument document) {
+        return invalidating(Collections.singleton(document.getTin()), () -> delegate.save(document));
+    }
+
+    @Override
+    public List<AuthorizationDocument> saveAll(Collection<AuthorizationDocument> documents) {
+        return invalidating(documents.stream().map(AuthorizationDocument::getTin).collect(Collectors.toSet()),
+                () -> delegate.saveAll(documents));
+    }
+
+    @Override
+    public boolean updateAuthorizationStatus(String transactionId, String tin, String expectedStatus,
+            String authorizationStatus, LocalDateTime updatedDate) {
+        return invalidating(Collections.singleton(tin), () -> delegate.updateAuthorizationStatus(transactionId,
+                tin, expectedStatus, authorizationStatus, updatedDate));
+    }
+
+    @Override
+    public boolean[] updateAuthorizationStatuses(List<AuthorizationDecision> decisions, String expectedStatus,
+            LocalDateTime updatedDate) {
+        return invalidating(decisions.stream().map(AuthorizationDecision::getDocumentTin).collect(Collectors.toSet()),
+                () -> delegate.updateAuthorizationStatuses(decisions, expectedStatus, updatedDate));
+    }
+
+    @Override
+    public void delete(String transactionId) {
+        Optional<String> tin = delegate.findByTransactionId(transactionId).map(AuthorizationDocument::getTin);
+        delegate.delete(transactionId);
+        tin.ifPresent(value -> invalidate(Collections.singleton(value)));
+    }
+
+    private long version(String tin) {
+        return versions.get(tin, ignored -> versionSequence.incrementAndGet());
+    }
+
+    /*
+     * Invalidates only once the write has run: a page read while the write is in flight
+     * would otherwise be cached under the new version and outlive the write.
+     */
+    private <T> T invalidating(Set<String> tins, Supplier<T> write) {
+        T result = write.get();
+        invalidate(tins);
+        return result;
+    }
+
+    private void invalidate(Set<String> tins) {
+        bump(tins);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(tins);
+                }
+            });
+        }
+    }
+
+    private void bump(Set<String> tins) {
+        for (String tin : tins) {
+            if (tin != null) {
+                versions.put(tin, versionSequence.incrementAndGet());
+            }
+        }
+    }
+
+    private record PageKey(String tin, long version, String pageToken, int pageSize) {}
+} 
\ No newline at end of file
@@ -0,0 +1,58 @@
+package gov.irs.ives.bwas.infrastructure.services;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.domain.AuthorizationResult;
+import gov.irs.ives.bwas.core.services.AsyncAuthorizationService;
+import gov.irs.ives.bwas.core.services.AuthorizationService;
+import gov.irs.ives.bwas.infrastructure.config.ApplicationConfig;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs the blocking persistence work of {@link AuthorizationService} on the bounded
+ * authorization executor so request threads are released while it runs. The work itself
+ * still blocks: it only moves to a smaller pool, so these reads complete no faster and at
+ * most {@code authorization.async.pool-size} of them run at once, and requests beyond the
+ * queue capacity are rejected. Authorization is composed by {@link AuthorizationPipeline},
+ * which is non-blocking on its own.
+ */
+@Service
+@Observed(name = "authorization.service")
+@RequiredArgsConstructor
+public class AsyncAuthorizationServiceImpl implements AsyncAuthorizationService {
+
+    private final AuthorizationService authorizationService;
+    private final AuthorizationPipeline pipeline;
+
+    @Override
+    @Async(ApplicationConfig.AUTHORIZATION_EXECUTOR)
+    public CompletableFuture<AuthorizationDocumentPage> getDocuments(String tin, String pageToken, Integer pageSize) {
+        return CompletableFuture.completedFuture(authorizationService.getDocuments(tin, pageToken, pageSize));
+    }
+
+    @Override
+    @Async(ApplicationConfig.AUTHORIZATION_EXECUTOR)
+    public CompletableFuture<AuthorizationDocument> getDocument(String transactionId, String tin, String tinType) {
+        return CompletableFuture.completedFuture(authorizationService.getDocument(transactionId, tin, tinType));
+    }
+
+    @Override
+    public CompletableFuture<AuthorizationDocument> authorize(String action, String transactionId, String documentTin,
+            String tinType, String userId, String userTin) {
+        return pipeline.authorize(action, transactionId, documentTin, userId, userTin);
+    }
+
+    @Override
+    @Async(ApplicationConfig.AUTHORIZATION_EXECUTOR)
+    public CompletableFuture<List<AuthorizationResult>> authorizeAll(List<AuthorizationDecision> decisions,
+            String userId, String userTin) {
+        return CompletableFuture.completedFuture(authorizationService.authorizeAll(decisions, userId, userTin));
+    }
+} 
\ No newline at end of file
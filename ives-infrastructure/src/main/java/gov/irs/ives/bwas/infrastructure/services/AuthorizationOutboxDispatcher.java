@@ -0,0 +1,180 @@
+package gov.irs.ives.bwas.infrastructure.services;
+
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import gov.irs.ives.bwas.infrastructure.config.OutboxProperties;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutbox;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers authorization decisions from the outbox to FBP in the background.
+ * <p>
+ * Each poll claims a batch of due events, sends them with at most
+ * {@code max-concurrency} calls in flight and records the outcomes in two batched
+ * writes. Failed events are retried with exponential backoff until {@code max-attempts}
+ * is reached, after which they are marked dead and counted in
+ * {@code authorization.outbox.dead}. Only the oldest pending event of a transaction is
+ * ever claimed, so decisions reach FBP in the order they were made.
+ * <p>
+ * Every call carries the event id as its idempotency key, so resending after a timeout
+ * whose first call did reach FBP does not decide twice. A 409 from FBP means the
+ * document is already decided and is treated as delivered.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "authorization.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class AuthorizationOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final AuthorizationOutbox outbox;
+    private final FBPClient fbpClient;
+    private final OutboxProperties properties;
+    private final Counter deadEvents;
+
+    public AuthorizationOutboxDispatcher(AuthorizationOutbox outbox, FBPClient fbpClient, OutboxProperties properties,
+            MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.fbpClient = fbpClient;
+        this.properties = properties;
+        this.deadEvents = Counter.builder("authorization.outbox.dead")
+                .description("Outbox events given up on after their last delivery attempt")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${authorization.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        // Keep draining while batches come back full instead of waiting for the next poll
+        while (dispatchBatch() == properties.getBatchSize()) {
+            log.debug("Outbox batch full, draining next batch");
+        }
+    }
+
+    /**
+     * Claims and delivers one batch of events.
+     *
+     * @return the number of events claimed
+     */
+    int dispatchBatch() {
+        List<AuthorizationOutboxEvent> events = outbox.claim(properties.getBatchSize(), properties.getLease());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Semaphore permits = new Semaphore(properties.getMaxConcurrency());
+        Queue<Long> delivered = new ConcurrentLinkedQueue<>();
+        Queue<AuthorizationOutboxEvent> failed = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+        for (AuthorizationOutboxEvent event : events) {
+            permits.acquireUninterruptibly();
+            sends.add(send(event).whenComplete((document, error) -> {
+                if (error == null) {
+                    delivered.add(event.getId());
+                } else if (isAlreadyDecided(error)) {
+                    log.info("FBP reports transaction {} already decided, treating {} as delivered",
+                            event.getTransactionId(), event.getAction());
+                    delivered.add(event.getId());
+                } else {
+                    markFailed(event, error);
+                    failed.add(event);
+                }
+                permits.release();
+            }));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .exceptionally(error -> null)
+                .join();
+
+        outbox.complete(delivered);
+        outbox.reschedule(failed);
+        if (!failed.isEmpty()) {
+            long dead = failed.stream().filter(event -> event.getDeadAt() != null).count();
+            log.warn("Delivered {} of {} outbox events to FBP, {} rescheduled, {} dead",
+                    delivered.size(), events.size(), failed.size() - dead, dead);
+        }
+        return events.size();
+    }
+
+    private CompletableFuture<?> send(AuthorizationOutboxEvent event) {
+        CompletableFuture<?> call;
+        try {
+            call = fbpClient.authorize(event.getAction(), event.getTransactionId(), event.getTin(),
+                    event.getSignatureId(), String.valueOf(event.getId()));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        return call.copy()
+                .orTimeout(properties.getDispatchTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((document, error) -> {
+                    if (error != null) {
+                        call.cancel(true);
+                    }
+                });
+    }
+
+    /**
+     * FBP answers 409 when the document has already been decided, typically because an
+     * earlier attempt reached it but its response was lost.
+     */
+    private static boolean isAlreadyDecided(Throwable error) {
+        return unwrap(error) instanceof WebClientResponseException response
+                && response.getStatusCode().isSameCodeAs(HttpStatus.CONFLICT);
+    }
+
+    private void markFailed(AuthorizationOutboxEvent event, Throwable error) {
+        Throwable cause = unwrap(error);
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage()));
+        if (attempts >= properties.getMaxAttempts()) {
+            event.setDeadAt(LocalDateTime.now());
+            deadEvents.increment();
+            log.error("FBP delivery of {} for transaction {} failed {} times, marking it dead: {}",
+                    event.getAction(), event.getTransactionId(), attempts, cause.getMessage());
+            return;
+        }
+        event.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+        log.warn("FBP delivery of {} for transaction {} failed (attempt {}): {}",
+                event.getAction(), event.getTransactionId(), attempts, cause.getMessage());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Exponential backoff capped at the configured maximum, with up to half of the delay
+     * randomized so events that failed together do not all retry at the same instant.
+     */
+    Duration backoff(int attempts) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        int shift = Math.min(attempts - 1, 30);
+        long delay = Math.min(max, initial << shift);
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+} 
\ No newline at end of file
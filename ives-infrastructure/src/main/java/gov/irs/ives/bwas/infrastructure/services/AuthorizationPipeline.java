@@ -0,0 +1,250 @@
+package gov.irs.ives.bwas.infrastructure.services;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.EssarSignature;
+import gov.irs.ives.bwas.core.exceptions.AuthorizationConflictException;
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.core.ports.EssarClient;
+import gov.irs.ives.bwas.infrastructure.config.ApplicationConfig;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutbox;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutboxEvent;
+import gov.irs.ives.bwas.infrastructure.tracing.ObservationPropagation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Authorizes a document end to end: loads the local document, obtains an ESSAR signature
+ * for approvals and records the decision locally together with an outbox event that
+ * {@link AuthorizationOutboxDispatcher} later delivers to FBP.
+ * <p>
+ * The signature is only requested once the loaded document is known to belong to the
+ * given tin and to still be pending, since an ESSAR signature is a legal act that must not
+ * be made for a decision that cannot be recorded. Every stage has its own timeout. Remote
+ * calls never run while a database connection is held; the only transaction is the short
+ * one around the final write. That write is a single conditional update that only
+ * succeeds while the document is still pending, so of several concurrent decisions on one
+ * document exactly one wins and the others fail with an
+ * {@link AuthorizationConflictException}. Every stage runs in the observation of the
+ * caller, so the whole pipeline shows up in the caller's trace whichever thread completes
+ * a stage.
+ */
+@Component
+public class AuthorizationPipeline {
+
+    static final String APPROVE = "APPROVE";
+    static final String REJECT = "REJECT";
+    static final String PENDING = "PENDING";
+
+    private final AuthorizationRepository repository;
+    private final EssarClient essarClient;
+    private final AuthorizationOutbox outbox;
+    private final Executor executor;
+    private final TransactionTemplate persistTransaction;
+    private final ObservationRegistry observationRegistry;
+
+    @Value("${authorization.pipeline.load-timeout:2s}")
+    private Duration loadTimeout;
+
+    @Value("${authorization.pipeline.signature-timeout:5s}")
+    private Duration signatureTimeout;
+
+    @Value("${essar.signature.form-type:4506-C}")
+    private String signatureFormType;
+
+    @Value("${essar.signature.app-name:IVES-BWAS}")
+    private String signatureAppName;
+
+    @Value("${essar.signature.intent-id:IVES-AUTHORIZATION}")
+    private String signatureIntentId;
+
+    public AuthorizationPipeline(AuthorizationRepository repository, EssarClient essarClient,
+            AuthorizationOutbox outbox,
+            @Qualifier(ApplicationConfig.AUTHORIZATION_EXECUTOR) Executor executor,
+            PlatformTransactionManager transactionManager,
+            @Value("${authorization.pipeline.persist-timeout:2s}") Duration persistTimeout,
+            ObservationRegistry observationRegistry) {
+        this.repository = repository;
+        this.essarClient = essarClient;
+        this.outbox = outbox;
+        this.executor = executor;
+        this.persistTransaction = new TransactionTemplate(transactionManager);
+        this.persistTransaction.setTimeout((int) Math.max(1, persistTimeout.toSeconds()));
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Runs the authorization pipeline for one document.
+     *
+     * @param action an APPROVE or REJECT authorization decision
+     * @param transactionId an identifier of the document
+     * @param documentTin tin the document must belong to
+     * @param userId id of user performing the authorization
+     * @param userTin tin associated to the user
+     * @return CompletableFuture containing the updated authorization document; completes
+     *         exceptionally with an {@link InvalidRequestException} for an unknown action,
+     *         with a {@link TimeoutException} if any stage exceeds its timeout, or with an
+     *         {@link AuthorizationConflictException} if the document is no longer pending or
+     *         does not belong to the document tin
+     */
+    public CompletableFuture<AuthorizationDocument> authorize(String action, String transactionId, String documentTin,
+            String userId, String userTin) {
+        if (!isValidAction(action)) {
+            return CompletableFuture.failedFuture(new InvalidRequestException("Action must be APPROVE or REJECT"));
+        }
+        // Captured here: the persist stage is handed to the executor by whichever thread
+        // completes last, often a Netty thread with no current observation
+        Executor executor = ObservationPropagation.capture(observationRegistry, this.executor);
+        CompletableFuture<AuthorizationDocument> document = withTimeout(
+                CompletableFuture.supplyAsync(() -> load(transactionId), executor), loadTimeout, "Document load")
+                .thenApply(loaded -> checkDecidable(loaded, documentTin));
+
+        return document.thenCompose(loaded -> withTimeout(
+                        requestSignature(action, transactionId, userId, userTin), signatureTimeout, "ESSAR signature")
+                        .thenApply(signature -> new Prepared(loaded,
+                                signature != null ? signature.getSignatureId() : null)))
+                .thenApplyAsync(prepared -> persist(prepared, action, documentTin, userTin), executor);
+    }
+
+    /**
+     * Obtains the ESSAR signature for the approval of one document, bounded by the
+     * signature timeout.
+     *
+     * @param transactionId an identifier of the document
+     * @param userId id of user performing the authorization
+     * @param userTin tin associated to the user
+     * @return CompletableFuture containing the signature ID
+     */
+    CompletableFuture<String> sign(String transactionId, String userId, String userTin) {
+        return withTimeout(requestSignature(APPROVE, transactionId, userId, userTin), signatureTimeout,
+                "ESSAR signature")
+                .thenApply(EssarSignature::getSignatureId);
+    }
+
+    /**
+     * Records decisions the caller has already checked in one short transaction. The
+     * conditional updates of all documents go to the database as one batch, and the outbox
+     * event of each decision is appended only if its update applied. A document decided
+     * concurrently since the caller loaded it is skipped without affecting the others.
+     *
+     * @param decisions the checked decisions
+     * @param events the outbox event of each decision, in the same order
+     * @param updatedDate time of the decisions
+     * @return whether each decision was recorded, in the order given
+     */
+    boolean[] persistAll(List<AuthorizationDecision> decisions, List<AuthorizationOutboxEvent> events,
+            LocalDateTime updatedDate) {
+        return persistTransaction.execute(status -> {
+            boolean[] updated = repository.updateAuthorizationStatuses(decisions, PENDING, updatedDate);
+            List<AuthorizationOutboxEvent> recorded = new ArrayList<>(events.size());
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i]) {
+                    recorded.add(events.get(i));
+                }
+            }
+            if (!recorded.isEmpty()) {
+                outbox.append(recorded);
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * Checks that an action is one of the decisions FBP accepts.
+     */
+    static boolean isValidAction(String action) {
+        return APPROVE.equals(action) || REJECT.equals(action);
+    }
+
+    private AuthorizationDocument load(String transactionId) {
+        return repository.findByTransactionId(transactionId)
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+    }
+
+    /**
+     * Rejects a decision on a document of another tin or one that is already decided
+     * before anything is signed. The loaded state may be stale; the conditional update in
+     * {@link #persist} remains the guard against concurrent decisions.
+     */
+    private static AuthorizationDocument checkDecidable(AuthorizationDocument document, String documentTin) {
+        if (documentTin == null || !documentTin.equals(document.getTin())
+                || !PENDING.equals(document.getAuthorizationStatus())) {
+            throw conflict(document.getTransactionId());
+        }
+        return document;
+    }
+
+    private static AuthorizationConflictException conflict(String transactionId) {
+        return new AuthorizationConflictException(transactionId,
+                "Document " + transactionId + " is no longer pending or does not belong to the given TIN");
+    }
+
+    /**
+     * Only approvals are signed; rejections complete immediately without a signature.
+     */
+    private CompletableFuture<EssarSignature> requestSignature(String action, String transactionId, String userId,
+            String userTin) {
+        if (!APPROVE.equals(action)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return essarClient.getElectronicSignature(userId, transactionId, userId, userTin,
+                signatureFormType, signatureAppName, signatureIntentId);
+    }
+
+    private AuthorizationDocument persist(Prepared prepared, String action, String documentTin, String userTin) {
+        return persistTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            AuthorizationDocument document = prepared.document();
+            String transactionId = document.getTransactionId();
+            // The caller's tin, not the loaded row's, so a document of another tin is never updated
+            if (!repository.updateAuthorizationStatus(transactionId, documentTin, PENDING, action, now)) {
+                throw conflict(transactionId);
+            }
+            outbox.append(List.of(new AuthorizationOutboxEvent(
+                    transactionId, action, userTin, prepared.signatureId(), now)));
+            // Reflect the update locally instead of reading the row back
+            document.setAuthorizationStatus(action);
+            document.setUpdatedDate(now);
+            if (document.getVersion() != null) {
+                document.setVersion(document.getVersion() + 1);
+            }
+            return document;
+        });
+    }
+
+    /**
+     * Bounds a stage by the given timeout. On expiry the stage is cancelled, which for
+     * WebClient calls also releases the pooled connection, and the result fails with a
+     * {@link TimeoutException} naming the stage.
+     */
+    private static <T> CompletableFuture<T> withTimeout(CompletableFuture<T> stage, Duration timeout, String name) {
+        return stage.copy()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        stage.cancel(true);
+                        cause = new TimeoutException(name + " timed out after " + timeout.toMillis() + " ms");
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    private record Prepared(AuthorizationDocument document, String signatureId) {}
+} 
\ No newline at end of file
@@ -1,25 +1,55 @@
 package gov.irs.ives.bwas.infrastructure.services;
 
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
 import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.domain.AuthorizationResult;
+import gov.irs.ives.bwas.core.domain.AuthorizationResult.Outcome;
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
 import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
 import gov.irs.ives.bwas.core.services.AuthorizationService;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutboxEvent;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
+@Observed(name = "authorization.service")
 @RequiredArgsConstructor
 public class AuthorizationServiceImpl implements AuthorizationService {
 
     private final AuthorizationRepository repository;
+    private final AuthorizationPipeline pipeline;
+
+    @Value("${authorization.documents.default-page-size:25}")
+    private int defaultPageSize;
+
+    @Value("${authorization.documents.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${authorization.bulk.max-decisions:500}")
+    private int maxBulkDecisions;
+
+    @Value("${authorization.bulk.signature-concurrency:8}")
+    private int bulkSignatureConcurrency;
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuthorizationDocument> getDocuments(String tin, int page) {
-        return repository.findByTin(tin, page);
+    public AuthorizationDocumentPage getDocuments(String tin, String pageToken, Integer pageSize) {
+        return repository.findByTin(tin, pageToken, resolvePageSize(pageSize));
     }
 
     @Override
@@ -30,14 +60,165 @@ public class AuthorizationServiceImpl implements AuthorizationService {
     }
 
     @Override
-    @Transactional
     public AuthorizationDocument authorize(String action, String transactionId, String documentTin,
             String tinType, String userId, String userTin) {
-        AuthorizationDocument document = getDocument(transactionId, documentTin, tinType);
-        
-        document.setAuthorizationStatus(action);
-        document.setUpdatedDate(LocalDateTime.now());
-        
-        return repository.save(document);
+        // Deliberately not transactional: the pipeline calls ESSAR and opens its own
+        // short transaction for the final write
+        try {
+            return pipeline.authorize(action, transactionId, documentTin, userId, userTin).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Checks every decision against the loaded documents, then obtains the ESSAR signature
+     * of each accepted approval before anything is written. No transaction is held while
+     * ESSAR is called; the decisions are recorded afterwards in one short transaction as a
+     * batch of conditional updates, and a document decided concurrently in between is
+     * reported as a conflict on its own.
+     */
+    @Override
+    public List<AuthorizationResult> authorizeAll(List<AuthorizationDecision> decisions, String userId,
+            String userTin) {
+        if (decisions.size() > maxBulkDecisions) {
+            throw new InvalidRequestException("At most " + maxBulkDecisions + " decisions are allowed per request");
+        }
+
+        Set<String> transactionIds = new HashSet<>();
+        for (AuthorizationDecision decision : decisions) {
+            if (decision.getTransactionId() != null) {
+                transactionIds.add(decision.getTransactionId());
+            }
+        }
+        Map<String, AuthorizationDocument> documents = new HashMap<>();
+        for (AuthorizationDocument document : repository.findByTransactionIds(transactionIds)) {
+            documents.put(document.getTransactionId(), document);
+        }
+
+        Set<String> decided = new HashSet<>();
+        List<String> approvals = new ArrayList<>();
+        List<AuthorizationResult> results = new ArrayList<>(decisions.size());
+        for (AuthorizationDecision decision : decisions) {
+            String transactionId = decision.getTransactionId();
+            AuthorizationDocument document = transactionId != null ? documents.get(transactionId) : null;
+            if (isBlank(transactionId) || isBlank(decision.getDocumentTin()) || isBlank(decision.getAction())) {
+                results.add(result(decision, Outcome.INVALID,
+                        "Transaction ID, document TIN and action are required", null));
+            } else if (!AuthorizationPipeline.isValidAction(decision.getAction())) {
+                results.add(result(decision, Outcome.INVALID, "Action must be APPROVE or REJECT", null));
+            } else if (!decided.add(transactionId)) {
+                results.add(result(decision, Outcome.INVALID, "Duplicate transaction ID", null));
+            } else if (document == null || !decision.getDocumentTin().equals(document.getTin())) {
+                // A document of another tin is reported like a missing one so its existence is not disclosed
+                results.add(result(decision, Outcome.NOT_FOUND, "Document not found", null));
+            } else if (!AuthorizationPipeline.PENDING.equals(document.getAuthorizationStatus())) {
+                results.add(result(decision, Outcome.CONFLICT, "Document is no longer pending", null));
+            } else {
+                if (AuthorizationPipeline.APPROVE.equals(decision.getAction())) {
+                    approvals.add(transactionId);
+                }
+                results.add(result(decision, Outcome.UPDATED, null, document));
+            }
+        }
+        Map<String, CompletableFuture<String>> signatures = sign(approvals, userId, userTin);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> positions = new ArrayList<>();
+        List<AuthorizationDecision> accepted = new ArrayList<>();
+        List<AuthorizationOutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            AuthorizationResult result = results.get(i);
+            if (result.getOutcome() != Outcome.UPDATED) {
+                continue;
+            }
+            String signatureId = null;
+            CompletableFuture<String> signature = signatures.get(result.getTransactionId());
+            if (signature != null) {
+                try {
+                    signatureId = signature.join();
+                } catch (CompletionException | CancellationException ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    results.set(i, result(decisions.get(i), Outcome.SIGNATURE_FAILED,
+                            "ESSAR signature failed: " + cause.getMessage(), null));
+                    continue;
+                }
+            }
+            positions.add(i);
+            accepted.add(decisions.get(i));
+            events.add(new AuthorizationOutboxEvent(result.getTransactionId(), result.getAction(), userTin,
+                    signatureId, now));
+        }
+        if (accepted.isEmpty()) {
+            return results;
+        }
+
+        boolean[] recorded = pipeline.persistAll(accepted, events, now);
+        for (int j = 0; j < recorded.length; j++) {
+            int i = positions.get(j);
+            if (!recorded[j]) {
+                results.set(i, result(decisions.get(i), Outcome.CONFLICT, "Document is no longer pending", null));
+                continue;
+            }
+            // Reflect the update locally instead of reading the rows back
+            AuthorizationDocument document = results.get(i).getDocument();
+            document.setAuthorizationStatus(decisions.get(i).getAction());
+            document.setUpdatedDate(now);
+            if (document.getVersion() != null) {
+                document.setVersion(document.getVersion() + 1);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Requests the signatures of the given approvals a wave at a time. ESSAR's concurrency
+     * limiter refuses calls beyond its limit rather than queuing them, so requesting a whole
+     * batch at once would see most of it refused.
+     *
+     * @return the completed signature call of each approval
+     */
+    private Map<String, CompletableFuture<String>> sign(List<String> approvals, String userId, String userTin) {
+        Map<String, CompletableFuture<String>> signatures = new HashMap<>();
+        for (int from = 0; from < approvals.size(); from += bulkSignatureConcurrency) {
+            List<CompletableFuture<String>> wave = new ArrayList<>();
+            for (String transactionId : approvals.subList(from,
+                    Math.min(from + bulkSignatureConcurrency, approvals.size()))) {
+                CompletableFuture<String> signature = pipeline.sign(transactionId, userId, userTin);
+                signatures.put(transactionId, signature);
+                wave.add(signature);
+            }
+            // Failures are picked up per approval by the caller
+            CompletableFuture.allOf(wave.toArray(CompletableFuture[]::new)).exceptionally(error -> null).join();
+        }
+        return signatures;
+    }
+
+    private static AuthorizationResult result(AuthorizationDecision decision, Outcome outcome, String message,
+            AuthorizationDocument document) {
+        return AuthorizationResult.builder()
+                .transactionId(decision.getTransactionId())
+                .action(decision.getAction())
+                .outcome(outcome)
+                .message(message)
+                .document(document)
+                .build();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return defaultPageSize;
+        }
+        if (pageSize < 1) {
+            throw new InvalidRequestException("Page size must be at least 1");
+        }
+        return Math.min(pageSize, maxPageSize);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,22 @@
+package gov.irs.ives.bwas.infrastructure.tracing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * One completed unit of work within a trace. The parent span id is {@code null} for the
+ * root of a trace started here and the caller's span id for a trace joined from upstream.
+ * Tags are the low cardinality key values of the observation, so they never carry
+ * request data such as TINs; the error is the exception class name of a failed span.
+ */
+public record FinishedSpan(
+        String traceId,
+        String spanId,
+        String parentSpanId,
+        String name,
+        Instant start,
+        Duration duration,
+        Map<String, String> tags,
+        String error) {
+} 
\ No newline at end of file
@@ -0,0 +1,48 @@
+package gov.irs.ives.bwas.infrastructure.tracing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the most recently exported spans in memory, dropping the oldest beyond its
+ * capacity. Lets tests assert on what was traced without a collector.
+ */
+public class LocalSpanExporter implements SpanExporter {
+
+    private final int capacity;
+    private final ArrayDeque<FinishedSpan> spans;
+
+    public LocalSpanExporter(int capacity) {
+        this.capacity = capacity;
+        this.spans = new ArrayDeque<>(Math.min(capacity, 1_024));
+    }
+
+    @Override
+    public synchronized void export(List<FinishedSpan> exported) {
+        for (FinishedSpan span : exported) {
+            if (spans.size() == capacity) {
+                spans.pollFirst();
+            }
+            spans.addLast(span);
+        }
+    }
+
+    public synchronized List<FinishedSpan> getFinishedSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    public synchronized List<FinishedSpan> getTrace(String traceId) {
+        List<FinishedSpan> trace = new ArrayList<>();
+        for (FinishedSpan span : spans) {
+            if (span.traceId().equals(traceId)) {
+                trace.add(span);
+            }
+        }
+        return trace;
+    }
+
+    public synchronized void clear() {
+        spans.clear();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,56 @@
+package gov.irs.ives.bwas.infrastructure.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.core.task.TaskDecorator;
+import reactor.util.context.Context;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Carries the current observation across thread hops, so that work continued on another
+ * thread is traced as part of the request that started it. The current observation lives
+ * in a thread local, which neither executors nor Reactor pass on by themselves.
+ */
+public final class ObservationPropagation {
+
+    /**
+     * Reactor context key Spring's WebClient reads the parent of its exchange observation
+     * from.
+     */
+    static final String REACTOR_CONTEXT_KEY = "micrometer.observation";
+
+    private ObservationPropagation() {
+    }
+
+    /**
+     * Returns a Reactor context holding the calling thread's current observation, to be
+     * written into a WebClient pipeline when it is assembled. Unlike the thread local, it
+     * is still there when the request is subscribed to or retried on another thread.
+     */
+    public static Context reactorContext(ObservationRegistry registry) {
+        Observation current = registry.getCurrentObservation();
+        return current != null ? Context.of(REACTOR_CONTEXT_KEY, current) : Context.empty();
+    }
+
+    /**
+     * Returns an executor running every task in the calling thread's current observation.
+     * Unlike {@link #taskDecorator} this captures the observation now, which matters for
+     * {@code CompletableFuture} stages that are only handed to the executor later from
+     * whichever thread completed the previous stage.
+     */
+    public static Executor capture(ObservationRegistry registry, Executor executor) {
+        Observation current = registry.getCurrentObservation();
+        return current != null ? task -> executor.execute(current.wrap(task)) : executor;
+    }
+
+    /**
+     * Runs each task in the observation that was current on the thread submitting it.
+     */
+    public static TaskDecorator taskDecorator(ObservationRegistry registry) {
+        return task -> {
+            Observation current = registry.getCurrentObservation();
+            return current != null ? current.wrap(task) : task;
+        };
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,304 @@
+package gov.irs.ives.bwas.infrastructure.tracing;
+
+import gov.irs.ives.bwas.infrastructure.config.TracingProperties;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.observation.transport.SenderContext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Turns observations into spans. The first observation of a request without a local
+ * parent starts a trace, or joins the caller's trace when it carries a W3C
+ * {@code traceparent} header; nested observations become its child spans and outgoing
+ * requests carry the header on to the downstream service.
+ * <p>
+ * Sampling happens twice. The head decision is made once per trace when it starts.
+ * Spans of a trace within the head sample rate are held until its local root completes,
+ * and the tail decision then exports them if the trace failed, was slow or falls within
+ * the tail sample rate, and drops them otherwise.
+ * <p>
+ * A trace outside the head sample only gets a root marker: its start time and whether
+ * anything in it failed. Nested observations share the marker, so they allocate and time
+ * nothing here and send no {@code traceparent}. When the root completes, a failed or slow
+ * trace is still kept, as its root span alone; the tail sample rate does not apply to it.
+ * A trace joined from an upstream {@code traceparent} header that is not sampled records
+ * nothing.
+ */
+public class SamplingTracingHandler implements ObservationHandler<Observation.Context> {
+
+    static final String TRACEPARENT = "traceparent";
+
+    private final SpanExporter exporter;
+    private final double headSampleRate;
+    private final long tailLatencyNanos;
+    private final boolean tailKeepErrors;
+    private final double tailSampleRate;
+    private final int maxSpansPerTrace;
+
+    public SamplingTracingHandler(TracingProperties properties, SpanExporter exporter) {
+        this.exporter = exporter;
+        this.headSampleRate = properties.getHeadSampleRate();
+        this.tailLatencyNanos = properties.getTailLatencyThreshold().toNanos();
+        this.tailKeepErrors = properties.isTailKeepErrors();
+        this.tailSampleRate = properties.getTailSampleRate();
+        this.maxSpansPerTrace = properties.getMaxSpansPerTrace();
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        ObservationView parent = context.getParentObservation();
+        ActiveSpan span;
+        if (parent == null) {
+            span = startTrace(context);
+        } else {
+            ActiveSpan parentSpan = parent.getContextView().get(ActiveSpan.class);
+            if (parentSpan == null || !parentSpan.trace.recorded) {
+                // Children of an unrecorded trace share its root marker
+                span = parentSpan;
+            } else {
+                span = new ActiveSpan(parentSpan.trace, parentSpan.spanId, false);
+            }
+        }
+        if (span == null) {
+            return;
+        }
+        context.put(ActiveSpan.class, span);
+        if (span.trace.recorded && context instanceof SenderContext<?> sender) {
+            inject(sender, span);
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        ActiveSpan span = context.get(ActiveSpan.class);
+        if (span == null) {
+            return;
+        }
+        if (!span.trace.recorded) {
+            stopUnrecorded(context, span);
+            return;
+        }
+        long durationNanos = System.nanoTime() - span.startNanos;
+        FinishedSpan finished = finish(context, span.trace.traceId, span.spanId, span.parentSpanId,
+                span.startMillis, durationNanos);
+        record(span, finished, durationNanos);
+    }
+
+    private void stopUnrecorded(Observation.Context context, ActiveSpan marker) {
+        Trace trace = marker.trace;
+        boolean failed = context.getError() != null;
+        if (context.getParentObservation() != null) {
+            if (failed) {
+                synchronized (trace) {
+                    trace.failed = true;
+                }
+            }
+            return;
+        }
+        long durationNanos = System.nanoTime() - marker.startNanos;
+        synchronized (trace) {
+            failed |= trace.failed;
+        }
+        if ((tailKeepErrors && failed) || durationNanos >= tailLatencyNanos) {
+            // Ids are only made for the few unrecorded traces that are kept
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            exporter.export(List.of(finish(context, hex(random.nextLong()) + hex(random.nextLong()),
+                    hex(random.nextLong()), null, marker.startMillis, durationNanos)));
+        }
+    }
+
+    private static FinishedSpan finish(Observation.Context context, String traceId, String spanId,
+            String parentSpanId, long startMillis, long durationNanos) {
+        Throwable error = context.getError();
+        return new FinishedSpan(traceId, spanId, parentSpanId,
+                context.getContextualName() != null ? context.getContextualName() : context.getName(),
+                Instant.ofEpochMilli(startMillis), Duration.ofNanos(durationNanos), tags(context),
+                error != null ? error.getClass().getSimpleName() : null);
+    }
+
+    private void record(ActiveSpan span, FinishedSpan finished, long durationNanos) {
+        Trace trace = span.trace;
+        List<FinishedSpan> export = null;
+        synchronized (trace) {
+            trace.failed |= finished.error() != null;
+            if (trace.spans == null) {
+                // Completed after the tail decision, e.g. a call left running by a timeout
+                if (trace.kept) {
+                    export = List.of(finished);
+                }
+            } else {
+                if (span.root || trace.spans.size() < maxSpansPerTrace) {
+                    trace.spans.add(finished);
+                }
+                if (span.root) {
+                    trace.kept = keep(trace, durationNanos);
+                    export = trace.kept ? trace.spans : null;
+                    trace.spans = null;
+                }
+            }
+        }
+        if (export != null) {
+            exporter.export(export);
+        }
+    }
+
+    private boolean keep(Trace trace, long rootDurationNanos) {
+        return trace.sampledUpstream
+                || (tailKeepErrors && trace.failed)
+                || rootDurationNanos >= tailLatencyNanos
+                || (tailSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < tailSampleRate);
+    }
+
+    private ActiveSpan startTrace(Observation.Context context) {
+        if (context instanceof ReceiverContext<?> receiver) {
+            String[] traceparent = extract(receiver);
+            if (traceparent != null) {
+                if (!isSampledFlag(traceparent[3])) {
+                    return null;
+                }
+                return new ActiveSpan(new Trace(traceparent[1], true), traceparent[2], true);
+            }
+        }
+        if (headSampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= headSampleRate) {
+            return new ActiveSpan(new Trace());
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new ActiveSpan(new Trace(hex(random.nextLong()) + hex(random.nextLong()), false), null, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void inject(SenderContext<?> context, ActiveSpan span) {
+        SenderContext<Object> sender = (SenderContext<Object>) context;
+        if (sender.getCarrier() != null) {
+            sender.getSetter().set(sender.getCarrier(), TRACEPARENT,
+                    "00-" + span.trace.traceId + "-" + span.spanId + "-01");
+        }
+    }
+
+    /**
+     * Returns the version, trace id, parent id and flags of a well-formed header, or
+     * {@code null} so that a malformed one starts a new trace.
+     */
+    @SuppressWarnings("unchecked")
+    private static String[] extract(ReceiverContext<?> context) {
+        ReceiverContext<Object> receiver = (ReceiverContext<Object>) context;
+        if (receiver.getCarrier() == null) {
+            return null;
+        }
+        String header = receiver.getGetter().get(receiver.getCarrier(), TRACEPARENT);
+        if (header == null || header.length() != 55) {
+            return null;
+        }
+        String[] parts = header.split("-");
+        if (parts.length != 4 || parts[0].equals("ff") || !isHex(parts[0], 2) || !isHex(parts[1], 32)
+                || !isHex(parts[2], 16) || !isHex(parts[3], 2)) {
+            return null;
+        }
+        return parts;
+    }
+
+    private static boolean isSampledFlag(String flags) {
+        return (Character.digit(flags.charAt(1), 16) & 1) == 1;
+    }
+
+    private static boolean isHex(String value, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        boolean nonZero = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+            nonZero |= c != '0';
+        }
+        // All-zero trace and parent ids are invalid; version and flags may be zero
+        return nonZero || length == 2;
+    }
+
+    private static Map<String, String> tags(Observation.Context context) {
+        Map<String, String> tags = new HashMap<>();
+        for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+            tags.put(keyValue.getKey(), keyValue.getValue());
+        }
+        return Map.copyOf(tags);
+    }
+
+    static String hex(long value) {
+        String digits = Long.toHexString(value);
+        return digits.length() == 16 ? digits : "0".repeat(16 - digits.length()) + digits;
+    }
+
+    private static final class Trace {
+
+        private final String traceId;
+        private final boolean sampledUpstream;
+        private final boolean recorded;
+        private List<FinishedSpan> spans;
+        private boolean failed;
+        private boolean kept;
+
+        private Trace(String traceId, boolean sampledUpstream) {
+            this.traceId = traceId;
+            this.sampledUpstream = sampledUpstream;
+            this.recorded = true;
+            this.spans = new ArrayList<>();
+        }
+
+        /**
+         * An unrecorded trace, outside the head sample.
+         */
+        private Trace() {
+            this.traceId = null;
+            this.sampledUpstream = false;
+            this.recorded = false;
+        }
+    }
+
+    private static final class ActiveSpan {
+
+        private final Trace trace;
+        private final String spanId;
+        private final String parentSpanId;
+        private final boolean root;
+        private final long startMillis;
+        private final long startNanos;
+
+        private ActiveSpan(Trace trace, String parentSpanId, boolean root) {
+            this.trace = trace;
+            this.spanId = hex(ThreadLocalRandom.current().nextLong());
+            this.parentSpanId = parentSpanId;
+            this.root = root;
+            this.startMillis = System.currentTimeMillis();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * The root marker of an unrecorded trace.
+         */
+        private ActiveSpan(Trace trace) {
+            this.trace = trace;
+            this.spanId = null;
+            this.parentSpanId = null;
+            this.root = true;
+            this.startMillis = System.currentTimeMillis();
+            this.startNanos = System.nanoTime();
+        }
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,13 @@
+package gov.irs.ives.bwas.infrastructure.tracing;
+
+import java.util.List;
+
+/**
+ * Receives the spans of traces kept by tail sampling. Spans of one trace are usually
+ * exported together once its local root completes; a span that completes after that is
+ * exported on its own.
+ */
+public interface SpanExporter {
+
+    void export(List<FinishedSpan> spans);
+} 
\ No newline at end of file
@@ -0,0 +1,21 @@
+-- Authorization documents, mapped in META-INF/orm.xml.
+CREATE TABLE authorization_document (
+    transaction_id       VARCHAR(255) NOT NULL,
+    tin                  VARCHAR(255),
+    tin_type             VARCHAR(255),
+    status               VARCHAR(255),
+    created_date         TIMESTAMP(6),
+    updated_date         TIMESTAMP(6),
+    document_type        VARCHAR(255),
+    document_status      VARCHAR(255),
+    authorization_status VARCHAR(255),
+    version              BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_authorization_document PRIMARY KEY (transaction_id)
+);
+
+-- Serves the keyset pages of findFirstPage and findPageAfter: equality on tin, then rows
+-- in the exact order of the ORDER BY. The database seeks to the cursor position and
+-- reads one page in index order, so neither a sort nor a scan of the TIN's other rows
+-- is needed and the cost of a page does not grow with the table.
+CREATE INDEX idx_authorization_document_tin_created
+    ON authorization_document (tin, created_date DESC, transaction_id DESC); 
\ No newline at end of file
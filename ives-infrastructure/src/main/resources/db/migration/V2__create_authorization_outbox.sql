@@ -0,0 +1,22 @@
+-- Authorization decisions awaiting delivery to FBP, see AuthorizationOutboxEvent.
+-- Increment matches the allocation size of the entity's sequence generator.
+CREATE SEQUENCE authorization_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE authorization_outbox (
+    id              BIGINT        NOT NULL,
+    transaction_id  VARCHAR(255)  NOT NULL,
+    action          VARCHAR(255)  NOT NULL,
+    tin             VARCHAR(255)  NOT NULL,
+    signature_id    VARCHAR(255),
+    created_date    TIMESTAMP(6)  NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    last_error      VARCHAR(1000),
+    CONSTRAINT pk_authorization_outbox PRIMARY KEY (id)
+);
+
+-- Finds the head event of each transaction for findDueHeads
+CREATE INDEX idx_authorization_outbox_transaction ON authorization_outbox (transaction_id, id);
+
+-- Finds due events without scanning the ones scheduled for later
+CREATE INDEX idx_authorization_outbox_next_attempt ON authorization_outbox (next_attempt_at); 
\ No newline at end of file
@@ -0,0 +1,3 @@
+-- Set once an event has used up its delivery attempts; findDueHeads no longer claims it,
+-- and later events of the same transaction stay queued behind it.
+ALTER TABLE authorization_outbox ADD COLUMN dead_at TIMESTAMP(6); 
\ No newline at end of file
@@ -0,0 +1,9 @@
+-- Keyset pages are ordered and resumed on created_date: a row without one could not be
+-- encoded in a page token and would never match findPageAfter's comparison, so it was
+-- either fatal or silently skipped. Undated rows take their update time, or the epoch
+-- when they have none, so they sort as the oldest documents of their TIN.
+UPDATE authorization_document
+SET created_date = COALESCE(updated_date, TIMESTAMP '1970-01-01 00:00:00')
+WHERE created_date IS NULL;
+
+ALTER TABLE authorization_document ALTER COLUMN created_date SET NOT NULL; 
\ No newline at end of file
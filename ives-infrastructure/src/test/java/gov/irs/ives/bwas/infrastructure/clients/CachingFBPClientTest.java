@@ -0,0 +1,117 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import gov.irs.ives.bwas.infrastructure.config.DocumentCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CachingFBPClientTest {
+
+    private final FBPClient delegate = mock(FBPClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CachingFBPClient cachingClient;
+
+    @BeforeEach
+    void setUp() {
+        cachingClient = new CachingFBPClient(delegate, new DocumentCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void getDocument_WhenCalledTwice_ShouldCallDelegateOnce() throws ExecutionException, InterruptedException {
+        when(delegate.getDocument("test-transaction"))
+                .thenReturn(CompletableFuture.completedFuture(document("test-transaction", "PENDING")));
+
+        FBPDocument first = cachingClient.getDocument("test-transaction").get();
+        FBPDocument second = cachingClient.getDocument("test-transaction").get();
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        verify(delegate, times(1)).getDocument("test-transaction");
+        assertEquals(1.0, counter("hit"));
+        assertEquals(1.0, counter("miss"));
+    }
+
+    @Test
+    void getDocument_WhenCallerModifiesDocument_ShouldNotChangeCachedDocument()
+            throws ExecutionException, InterruptedException {
+        when(delegate.getDocument("test-transaction"))
+                .thenReturn(CompletableFuture.completedFuture(document("test-transaction", "PENDING")));
+        when(delegate.authorize(anyString(), anyString(), anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(document("test-transaction", "APPROVE")));
+
+        cachingClient.getDocument("test-transaction").get().setAuthorizationStatus("MODIFIED");
+        assertEquals("PENDING", cachingClient.getDocument("test-transaction").get().getAuthorizationStatus());
+
+        cachingClient.authorize("APPROVE", "test-transaction", "123456789", "test-signature", null).get()
+                .setAuthorizationStatus("MODIFIED");
+        assertEquals("APPROVE", cachingClient.getDocument("test-transaction").get().getAuthorizationStatus());
+    }
+
+    @Test
+    void getDocument_WhenDelegateFails_ShouldNotCacheFailure() {
+        when(delegate.getDocument("test-transaction"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("FBP unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(document("test-transaction", "PENDING")));
+
+        assertThrows(ExecutionException.class, () -> cachingClient.getDocument("test-transaction").get());
+        assertDoesNotThrow(() -> cachingClient.getDocument("test-transaction").get());
+        verify(delegate, times(2)).getDocument("test-transaction");
+    }
+
+    @Test
+    void authorize_ShouldReplaceCachedDocument() throws ExecutionException, InterruptedException {
+        when(delegate.getDocument("test-transaction"))
+                .thenReturn(CompletableFuture.completedFuture(document("test-transaction", "PENDING")));
+        when(delegate.authorize(anyString(), anyString(), anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(document("test-transaction", "APPROVE")));
+
+        cachingClient.getDocument("test-transaction").get();
+        cachingClient.authorize("APPROVE", "test-transaction", "123456789", "test-signature", null).get();
+        FBPDocument result = cachingClient.getDocument("test-transaction").get();
+
+        assertEquals("APPROVE", result.getAuthorizationStatus());
+        verify(delegate, times(1)).getDocument("test-transaction");
+    }
+
+    @Test
+    void authorize_WhenDelegateFails_ShouldInvalidateCachedDocument() throws ExecutionException, InterruptedException {
+        when(delegate.getDocument("test-transaction"))
+                .thenReturn(CompletableFuture.completedFuture(document("test-transaction", "PENDING")));
+        when(delegate.authorize(anyString(), anyString(), anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("FBP unavailable")));
+
+        cachingClient.getDocument("test-transaction").get();
+        assertThrows(ExecutionException.class, () -> cachingClient.authorize(
+                "APPROVE", "test-transaction", "123456789", "test-signature", null).get());
+        cachingClient.getDocument("test-transaction").get();
+
+        verify(delegate, times(2)).getDocument("test-transaction");
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CachingFBPClient.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static FBPDocument document(String transactionId, String authorizationStatus) {
+        return FBPDocument.builder()
+                .transactionId(transactionId)
+                .tin("123456789")
+                .documentType("F1040")
+                .authorizationStatus(authorizationStatus)
+                .documentContent("test-content")
+                .build();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,122 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.infrastructure.config.ResilienceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(3).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+    private final ResilienceProperties properties = new ResilienceProperties();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        properties.setSlidingWindowSize(10);
+        properties.setMinimumCalls(4);
+        properties.setHalfOpenCalls(2);
+        breaker = new CircuitBreaker("essar", properties, now::get);
+    }
+
+    @Test
+    void whenFailureRateReachesThreshold_ShouldOpenAndRejectCalls() {
+        call(true);
+        call(true);
+        call(false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        call(false);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void whenMostCallsAreSlow_ShouldOpen() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onSuccess(SLOW);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void whenOldFailuresLeaveWindow_ShouldForgetThem() {
+        call(false);
+        call(true);
+        call(true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        for (int i = 0; i < 10; i++) {
+            call(true);
+        }
+
+        assertEquals(0.0, breaker.getFailureRate());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void afterOpenDuration_ShouldAdmitTrialCallsAndCloseWhenTheySucceed() {
+        open();
+        now.addAndGet(properties.getOpenDuration().toNanos());
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0.0, breaker.getFailureRate());
+    }
+
+    @Test
+    void whenTrialCallFails_ShouldOpenAgain() {
+        open();
+        now.addAndGet(properties.getOpenDuration().toNanos());
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void release_ShouldReturnTrialPermission() {
+        open();
+        now.addAndGet(properties.getOpenDuration().toNanos());
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.release();
+
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private void call(boolean success) {
+        assertTrue(breaker.tryAcquirePermission());
+        if (success) {
+            breaker.onSuccess(FAST);
+        } else {
+            breaker.onFailure();
+        }
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,119 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.ports.EssarClient;
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import gov.irs.ives.bwas.infrastructure.config.TracingConfig;
+import io.micrometer.observation.ObservationRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cancels client futures obtained from the Spring context, as the hedging, circuit
+ * breaker and pipeline timeouts do, and checks that the in-flight HTTP exchange is
+ * unsubscribed so its pooled connection is released.
+ */
+class ClientCancellationTest {
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+    private ApplicationContextRunner contextRunner;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer.start();
+        mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        String url = mockWebServer.url("/").toString();
+        contextRunner = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class))
+                .withUserConfiguration(ClientConfig.class)
+                .withPropertyValues("fbp.service.url=" + url, "essar.service.url=" + url);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void getDocument_WhenCancelled_ShouldCancelExchange() {
+        contextRunner.run(context -> {
+            CountDownLatch exchangeCancelled = ClientConfig.resetCancellation();
+            CompletableFuture<?> call = context.getBean(FBPClient.class).getDocument("test-transaction");
+
+            awaitRequest();
+            call.cancel(true);
+
+            assertTrue(exchangeCancelled.await(5, TimeUnit.SECONDS));
+        });
+    }
+
+    @Test
+    void getElectronicSignature_WhenCancelled_ShouldCancelExchange() {
+        contextRunner.run(context -> {
+            CountDownLatch exchangeCancelled = ClientConfig.resetCancellation();
+            CompletableFuture<?> call = context.getBean(EssarClient.class).getElectronicSignature(
+                    "test-uuid", "test-transaction", "test-user", "123456789", "F1040", "BWAS", "intent");
+
+            awaitRequest();
+            call.cancel(true);
+
+            assertTrue(exchangeCancelled.await(5, TimeUnit.SECONDS));
+        });
+    }
+
+    private void awaitRequest() throws InterruptedException {
+        assertNotNull(mockWebServer.takeRequest(5, TimeUnit.SECONDS));
+    }
+
+    @Configuration
+    @Import({TracingConfig.class, FBPClientImpl.class, EssarClientImpl.class})
+    static class ClientConfig {
+
+        private static volatile CountDownLatch exchangeCancelled = new CountDownLatch(1);
+
+        static CountDownLatch resetCancellation() {
+            exchangeCancelled = new CountDownLatch(1);
+            return exchangeCancelled;
+        }
+
+        @Bean
+        ObservationRegistry observationRegistry() {
+            return ObservationRegistry.create();
+        }
+
+        @Bean
+        WebClient fbpWebClient(ObservationRegistry observationRegistry) {
+            return webClient(observationRegistry);
+        }
+
+        @Bean
+        WebClient essarWebClient(ObservationRegistry observationRegistry) {
+            return webClient(observationRegistry);
+        }
+
+        private static WebClient webClient(ObservationRegistry observationRegistry) {
+            return WebClient.builder()
+                    .observationRegistry(observationRegistry)
+                    .filter((request, next) -> next.exchange(request)
+                            .doOnCancel(() -> exchangeCancelled.countDown()))
+                    .build();
+        }
+    }
+} 
\ No newline at end of file
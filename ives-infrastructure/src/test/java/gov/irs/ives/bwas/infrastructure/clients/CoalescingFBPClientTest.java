@@ -0,0 +1,63 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CoalescingFBPClientTest {
+
+    private final FBPClient delegate = mock(FBPClient.class);
+
+    @Test
+    void getDocument_WhenCoalescing_ShouldShareInFlightCall() throws ExecutionException, InterruptedException {
+        CompletableFuture<FBPDocument> pending = new CompletableFuture<>();
+        when(delegate.getDocument("test-transaction")).thenReturn(pending);
+        CoalescingFBPClient client = new CoalescingFBPClient(delegate, true);
+
+        CompletableFuture<FBPDocument> first = client.getDocument("test-transaction");
+        CompletableFuture<FBPDocument> second = client.getDocument("test-transaction");
+        pending.complete(document());
+
+        assertEquals(first.get(), second.get());
+        assertNotSame(first.get(), second.get());
+        verify(delegate, times(1)).getDocument("test-transaction");
+    }
+
+    @Test
+    void getDocument_WhenNotCoalescing_ShouldPassThrough() {
+        CompletableFuture<FBPDocument> pending = new CompletableFuture<>();
+        when(delegate.getDocument("test-transaction")).thenReturn(pending);
+        CoalescingFBPClient client = new CoalescingFBPClient(delegate, false);
+
+        assertSame(pending, client.getDocument("test-transaction"));
+        assertSame(pending, client.getDocument("test-transaction"));
+        verify(delegate, times(2)).getDocument("test-transaction");
+    }
+
+    @Test
+    void getDocuments_WhenNotCoalescingDocumentReads_ShouldStillShareInFlightCall() {
+        CompletableFuture<List<FBPDocument>> pending = new CompletableFuture<>();
+        when(delegate.getDocuments("123456789")).thenReturn(pending);
+        CoalescingFBPClient client = new CoalescingFBPClient(delegate, false);
+
+        client.getDocuments("123456789");
+        client.getDocuments("123456789");
+
+        verify(delegate, times(1)).getDocuments("123456789");
+    }
+
+    private static FBPDocument document() {
+        return FBPDocument.builder()
+                .transactionId("test-transaction")
+                .tin("123456789")
+                .authorizationStatus("PENDING")
+                .build();
+    }
+} 
\ No newline at end of file
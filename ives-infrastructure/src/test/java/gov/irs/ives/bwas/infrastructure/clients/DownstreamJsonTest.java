@@ -0,0 +1,129 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.EssarSignature;
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.domain.RawJson;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamJsonTest {
+
+    private static final String DOCUMENT = """
+            {"transactionId": "test-transaction", "tin": "123456789", "documentType": "F1040", \
+            "documentStatus": "PENDING", "authorizationStatus": "PENDING", "signatureId": null, \
+            "createdDate": "2024-03-15T10:30:45", "updatedDate": "2024-03-15T10:30:45", \
+            "documentContent": "test-content", "metadata": null, "unknownField": 1}""";
+
+    @Test
+    void read_ShouldDecodeFBPDocumentDirectly() {
+        FBPDocument document = DownstreamJson.read(DownstreamJson.FBP_DOCUMENT, body(DOCUMENT));
+
+        assertEquals("test-transaction", document.getTransactionId());
+        assertEquals("F1040", document.getDocumentType());
+        assertEquals(LocalDateTime.of(2024, 3, 15, 10, 30, 45), document.getCreatedDate());
+        assertEquals("test-content", document.getDocumentContent());
+    }
+
+    @Test
+    void read_ShouldDecodeDocumentListFromWrapper() {
+        List<FBPDocument> documents = DownstreamJson.read(DownstreamJson.FBP_DOCUMENT_LIST,
+                body("{\"documents\": [" + DOCUMENT + "," + DOCUMENT + "]}"));
+
+        assertEquals(2, documents.size());
+        assertEquals("123456789", documents.get(1).getTin());
+    }
+
+    @Test
+    void read_ShouldMapEssarStatusToSignatureStatus() {
+        EssarSignature signature = DownstreamJson.read(DownstreamJson.ESSAR_SIGNATURE, body("""
+                {"signatureId": "test-signature-id", "status": "SUCCESS", "signatureValue": "test-value"}"""));
+
+        assertEquals("test-signature-id", signature.getSignatureId());
+        assertEquals("SUCCESS", signature.getSignatureStatus());
+        assertEquals("test-value", signature.getSignatureValue());
+    }
+
+    @Test
+    void read_ShouldParseTimestampFormsLikeStandardDeserializer() {
+        assertEquals(LocalDateTime.of(2024, 3, 20, 10, 0), createdDate("2024-03-20T10:00:00Z"));
+        assertEquals(LocalDateTime.of(2024, 3, 20, 10, 0, 0, 120_000_000), createdDate("2024-03-20T10:00:00.12"));
+        assertEquals(LocalDateTime.of(2024, 3, 20, 10, 0, 0, 123_456_789),
+                createdDate("2024-03-20T10:00:00.123456789Z"));
+        // Not in the fast path's form, so decoded by the standard deserializer
+        assertEquals(LocalDateTime.of(2024, 3, 20, 10, 0), createdDate("2024-03-20T10:00"));
+        assertThrows(DecodingException.class, () -> createdDate("2024-13-20T10:00:00"));
+    }
+
+    @Test
+    void read_ShouldKeepMetadataAsRawJson() {
+        assertEquals(RawJson.of("{}"), metadata("{}"));
+        assertEquals(RawJson.of("{\"pages\":3,\"tags\":[\"w2\",{\"k\":\"v\"}],\"scanned\":null}"),
+                metadata("{ \"pages\": 3, \"tags\": [\"w2\", {\"k\": \"v\"}], \"scanned\": null }"));
+        assertEquals(RawJson.of("\"test-metadata\""), metadata("\"test-metadata\""));
+        assertNull(metadata("null"));
+    }
+
+    @Test
+    void read_WhenMetadataIsLastField_ShouldDecodeFollowingFieldsAfterIt() {
+        FBPDocument document = DownstreamJson.read(DownstreamJson.FBP_DOCUMENT,
+                body("{\"metadata\": {\"a\": {}}, \"tin\": \"123456789\"}"));
+
+        assertEquals(RawJson.of("{\"a\":{}}"), document.getMetadata());
+        assertEquals("123456789", document.getTin());
+    }
+
+    @Test
+    void readDocuments_WhenWrapperIsSplitAcrossBuffers_ShouldDecodeEachDocument() {
+        byte[] json = ("{\"count\": 2, \"links\": {\"documents\": []}, \"documents\": ["
+                + DOCUMENT + "," + DOCUMENT + "]}").getBytes(StandardCharsets.UTF_8);
+        Flux<DataBuffer> buffers = Flux.range(0, json.length)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(new byte[] {json[i]}));
+
+        List<FBPDocument> documents = DownstreamJson.readDocuments(buffers, false).collectList().block();
+
+        assertNotNull(documents);
+        assertEquals(2, documents.size());
+        assertEquals("test-transaction", documents.get(1).getTransactionId());
+        assertEquals(LocalDateTime.of(2024, 3, 15, 10, 30, 45), documents.get(1).getCreatedDate());
+    }
+
+    @Test
+    void readDocuments_WhenRootIsNotADocumentList_ShouldThrowDecodingException() {
+        assertThrows(DecodingException.class,
+                () -> DownstreamJson.readDocuments(Flux.just(body(DOCUMENT)), false).blockLast());
+        assertThrows(DecodingException.class,
+                () -> DownstreamJson.readDocuments(Flux.just(body("{\"documents\": 1}")), false).blockLast());
+        assertThrows(DecodingException.class,
+                () -> DownstreamJson.readDocuments(Flux.just(body("[" + DOCUMENT)), false).blockLast());
+    }
+
+    @Test
+    void read_WhenMalformed_ShouldThrowDecodingException() {
+        DataBuffer body = body("{\"transactionId\": ");
+
+        assertThrows(DecodingException.class, () -> DownstreamJson.read(DownstreamJson.FBP_DOCUMENT, body));
+    }
+
+    private static RawJson metadata(String json) {
+        return DownstreamJson.<FBPDocument>read(DownstreamJson.FBP_DOCUMENT,
+                body("{\"metadata\": " + json + "}")).getMetadata();
+    }
+
+    private static LocalDateTime createdDate(String timestamp) {
+        return DownstreamJson.<FBPDocument>read(DownstreamJson.FBP_DOCUMENT,
+                body("{\"createdDate\": \"" + timestamp + "\"}")).getCreatedDate();
+    }
+
+    private static DataBuffer body(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+} 
\ No newline at end of file
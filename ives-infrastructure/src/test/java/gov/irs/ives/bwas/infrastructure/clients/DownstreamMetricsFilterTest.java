@@ -0,0 +1,108 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamMetricsFilterTest {
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer.start();
+        webClient = WebClient.builder()
+                .baseUrl(mockWebServer.url("/").toString())
+                .filter(new DownstreamMetricsFilter("fbp", meterRegistry))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void exchange_WhenOk_ShouldRecordTimerAndResponseSize() {
+        mockWebServer.enqueue(new MockResponse().setBody("0123456789"));
+
+        assertEquals("0123456789", get().block());
+
+        assertEquals(1, meterRegistry.get("fbp.client.requests")
+                .tags("operation", "getDocument", "status", "200", "outcome", "SUCCESS", "exception", "none")
+                .timer().count());
+        assertEquals(10.0, meterRegistry.get("fbp.client.response.size")
+                .tag("operation", "getDocument").summary().totalAmount());
+        assertEquals(0.0, meterRegistry.get("fbp.client.requests.active").gauge().value());
+    }
+
+    @Test
+    void exchange_WhenServerError_ShouldCountByStatus() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        assertThrows(WebClientResponseException.ServiceUnavailable.class, () -> get().block());
+
+        assertEquals(1.0, meterRegistry.get("fbp.client.errors")
+                .tags("operation", "getDocument", "type", "server", "status", "503").counter().count());
+        assertEquals(1, meterRegistry.get("fbp.client.requests")
+                .tags("status", "503", "outcome", "SERVER_ERROR").timer().count());
+    }
+
+    @Test
+    void exchange_WhenConnectionRefused_ShouldCountConnectionError() throws IOException {
+        mockWebServer.shutdown();
+
+        assertThrows(WebClientRequestException.class, () -> get().block());
+
+        assertEquals(1.0, meterRegistry.get("fbp.client.errors")
+                .tags("type", "connection", "exception", "WebClientRequestException").counter().count());
+        assertEquals(0.0, meterRegistry.get("fbp.client.requests.active").gauge().value());
+    }
+
+    @Test
+    void exchange_WhenTimedOut_ShouldCountTimeout() {
+        WebClient timingOut = webClient.mutate()
+                .filter((request, next) -> Mono.error(new TimeoutException("Did not observe any item")))
+                .build();
+
+        assertThrows(RuntimeException.class, () -> timingOut.get().uri("/documents/tx-1")
+                .attribute(DownstreamMetricsFilter.OPERATION, "getDocument")
+                .retrieve().bodyToMono(String.class).block());
+
+        assertEquals(1.0, meterRegistry.get("fbp.client.errors")
+                .tags("type", "timeout", "exception", "TimeoutException").counter().count());
+    }
+
+    @Test
+    void exchange_WhenCancelled_ShouldReleaseInFlightSlot() {
+        mockWebServer.enqueue(new MockResponse().setBody("late").setHeadersDelay(2, TimeUnit.SECONDS));
+
+        assertThrows(RuntimeException.class, () -> get().timeout(Duration.ofMillis(100)).block());
+
+        assertEquals(0.0, meterRegistry.get("fbp.client.requests.active").gauge().value());
+        assertEquals(1, meterRegistry.get("fbp.client.requests").tag("outcome", "CANCELLED").timer().count());
+    }
+
+    private Mono<String> get() {
+        return webClient.get().uri("/documents/tx-1")
+                .attribute(DownstreamMetricsFilter.OPERATION, "getDocument")
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+} 
\ No newline at end of file
@@ -1,10 +1,13 @@
 package gov.irs.ives.bwas.infrastructure.clients;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import gov.irs.ives.bwas.core.domain.EssarSignature;
 import gov.irs.ives.bwas.infrastructure.config.TestConfig;
+import io.micrometer.observation.ObservationRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -12,13 +15,22 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Measures ESSAR client latency and throughput against a mock server. The decode
+ * benchmarks compare the previous decoding path with the cached reader in
+ * {@link DownstreamJson}. Run {@link #main} to include allocation per operation
+ * ({@code gc.alloc.rate.norm}) from the GC profiler.
+ */
 @State(Scope.Benchmark)
 @BenchmarkMode({Mode.AverageTime, Mode.Throughput})
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
@@ -32,6 +44,8 @@ public class EssarClientPerformanceTest {
     private MockWebServer mockWebServer;
     private EssarClientImpl essarClient;
     private String mockResponse;
+    private byte[] responseBytes;
+    private final ObjectMapper defaultObjectMapper = Jackson2ObjectMapperBuilder.json().build();
 
     @Setup
     public void setup() throws IOException {
@@ -41,7 +55,7 @@ public class EssarClientPerformanceTest {
         // Configure WebClient with mock server
         essarClient = new EssarClientImpl(WebClient.builder()
                 .baseUrl(mockWebServer.url("/").toString())
-                .build());
+                .build(), ObservationRegistry.NOOP);
 
         // Prepare mock response
         mockResponse = """
@@ -51,6 +65,8 @@ public class EssarClientPerformanceTest {
                     "signatureValue": "test-signature-value"
                 }
                 """;
+
+        responseBytes = mockResponse.getBytes(StandardCharsets.UTF_8);
     }
 
     @TearDown
@@ -132,9 +148,53 @@ public class EssarClientPerformanceTest {
         System.gc();
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public EssarSignature decodeSignature_ResponseRecord() throws IOException {
+        // Previous path: a reader per call, an intermediate record and a builder copy
+        EssarSignatureResponse response = defaultObjectMapper.readerFor(EssarSignatureResponse.class)
+                .readValue(responseBytes);
+        return EssarSignature.builder()
+                .signatureId(response.signatureId())
+                .uuid("test-uuid")
+                .transactionId("test-transaction")
+                .userName("test-user")
+                .tin("123456789")
+                .formType("F1040")
+                .appName("BWAS")
+                .intentId("test-intent")
+                .signatureDate(LocalDateTime.now())
+                .signatureStatus(response.status())
+                .signatureValue(response.signatureValue())
+                .build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public EssarSignature decodeSignature_CachedReader() throws IOException {
+        EssarSignature signature = DownstreamJson.ESSAR_SIGNATURE.readValue(responseBytes);
+        signature.setUuid("test-uuid");
+        signature.setTransactionId("test-transaction");
+        signature.setUserName("test-user");
+        signature.setTin("123456789");
+        signature.setFormType("F1040");
+        signature.setAppName("BWAS");
+        signature.setIntentId("test-intent");
+        signature.setSignatureDate(LocalDateTime.now());
+        return signature;
+    }
+
+    private record EssarSignatureResponse(
+            String signatureId,
+            String status,
+            String signatureValue) {}
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(EssarClientPerformanceTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
                 .build();
         new Runner(opt).run();
     }
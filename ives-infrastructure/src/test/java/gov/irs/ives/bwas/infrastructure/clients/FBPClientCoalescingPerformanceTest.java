@@ -0,0 +1,127 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares identical concurrent FBP reads with and without request coalescing.
+ * FBP is simulated with a fixed response delay so concurrent calls overlap; the
+ * number of downstream requests per client call is logged after each iteration.
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FBPClientCoalescingPerformanceTest {
+
+    private static final long FBP_LATENCY_MILLIS = 20;
+
+    @Param({"true", "false"})
+    public boolean coalescing;
+
+    private MockWebServer mockWebServer;
+    private FBPClient fbpClient;
+    private final AtomicLong clientCalls = new AtomicLong();
+    private long requestsBeforeIteration;
+
+    @Setup
+    public void setup() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String body = request.getPath().contains("?tin=")
+                        ? "{\"documents\": [" + DOCUMENT + "," + DOCUMENT + "]}"
+                        : DOCUMENT;
+                return new MockResponse()
+                        .setResponseCode(200)
+                        .setHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .setBody(body)
+                        .setHeadersDelay(FBP_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        });
+        mockWebServer.start();
+
+        FBPClientImpl fbpClientImpl = new FBPClientImpl(WebClient.builder().build(), ObservationRegistry.NOOP);
+        ReflectionTestUtils.setField(fbpClientImpl, "fbpServiceUrl", mockWebServer.url("/").toString());
+        fbpClient = coalescing ? new CoalescingFBPClient(fbpClientImpl, true) : fbpClientImpl;
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        clientCalls.set(0);
+        requestsBeforeIteration = mockWebServer.getRequestCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportDownstreamRequests() {
+        long calls = clientCalls.get();
+        long requests = mockWebServer.getRequestCount() - requestsBeforeIteration;
+        log.info("coalescing={} client calls={} downstream requests={} ({} per call)", coalescing, calls, requests,
+                String.format("%.3f", calls == 0 ? 0.0 : (double) requests / calls));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Benchmark
+    @Threads(50)
+    public FBPDocument getDocument_HighLoad() throws ExecutionException, InterruptedException {
+        clientCalls.incrementAndGet();
+        return fbpClient.getDocument("test-transaction").get();
+    }
+
+    @Benchmark
+    @Threads(50)
+    public List<FBPDocument> getDocuments_HighLoad() throws ExecutionException, InterruptedException {
+        clientCalls.incrementAndGet();
+        return fbpClient.getDocuments("123456789").get();
+    }
+
+    private static final String DOCUMENT = """
+            {
+                "transactionId": "test-transaction",
+                "tin": "123456789",
+                "documentType": "F1040",
+                "documentStatus": "PENDING",
+                "authorizationStatus": "PENDING",
+                "signatureId": null,
+                "createdDate": "2024-03-20T10:00:00",
+                "updatedDate": "2024-03-20T10:00:00",
+                "documentContent": "test-content",
+                "metadata": null
+            }
+            """;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(FBPClientCoalescingPerformanceTest.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,174 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import io.micrometer.observation.ObservationRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.adapter.JdkFlowAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FBPClientImplStreamingTest {
+
+    private MockWebServer mockWebServer;
+    private FBPClientImpl fbpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        fbpClient = new FBPClientImpl(WebClient.builder().build(), ObservationRegistry.NOOP);
+        ReflectionTestUtils.setField(fbpClient, "fbpServiceUrl", mockWebServer.url("/").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void streamDocuments_WithNdjsonBody_ShouldEmitEachDocument() throws InterruptedException {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", MediaType.APPLICATION_NDJSON_VALUE)
+                .setBody(document("test-transaction-1") + "\n" + document("test-transaction-2") + "\n"));
+
+        List<FBPDocument> documents = JdkFlowAdapter.flowPublisherToFlux(fbpClient.streamDocuments("123456789"))
+                .collectList()
+                .block();
+
+        assertNotNull(documents);
+        assertEquals(List.of("test-transaction-1", "test-transaction-2"),
+                documents.stream().map(FBPDocument::getTransactionId).toList());
+        var request = mockWebServer.takeRequest();
+        assertEquals("/documents?tin=123456789", request.getPath());
+        assertTrue(request.getHeader("Accept").contains(MediaType.APPLICATION_NDJSON_VALUE));
+    }
+
+    @Test
+    void streamDocuments_WithJsonArrayBody_ShouldEmitEachDocument() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .setBody("[" + document("test-transaction-1") + "," + document("test-transaction-2") + "]"));
+
+        List<FBPDocument> documents = JdkFlowAdapter.flowPublisherToFlux(fbpClient.streamDocuments("123456789"))
+                .collectList()
+                .block();
+
+        assertNotNull(documents);
+        assertEquals(2, documents.size());
+        assertEquals("test-content", documents.get(1).getDocumentContent());
+    }
+
+    @Test
+    void streamDocuments_WithDocumentsWrapperBody_ShouldEmitEachDocument() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .setBody("{\"documents\": [" + document("test-transaction-1") + ","
+                        + document("test-transaction-2") + "]}"));
+
+        List<FBPDocument> documents = JdkFlowAdapter.flowPublisherToFlux(fbpClient.streamDocuments("123456789"))
+                .collectList()
+                .block();
+
+        assertNotNull(documents);
+        assertEquals(List.of("test-transaction-1", "test-transaction-2"),
+                documents.stream().map(FBPDocument::getTransactionId).toList());
+    }
+
+    @Test
+    void streamDocuments_WithSingleObjectBody_ShouldSignalDecodingException() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .setBody(document("test-transaction-1")));
+
+        assertThrows(DecodingException.class, () ->
+                JdkFlowAdapter.flowPublisherToFlux(fbpClient.streamDocuments("123456789")).blockLast());
+    }
+
+    @Test
+    void streamDocuments_WhenSubscriberTakesOne_ShouldCompleteWithOneDocument() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", MediaType.APPLICATION_NDJSON_VALUE)
+                .setBody(document("test-transaction-1") + "\n" + document("test-transaction-2") + "\n"));
+
+        List<FBPDocument> documents = JdkFlowAdapter.flowPublisherToFlux(fbpClient.streamDocuments("123456789"))
+                .take(1)
+                .collectList()
+                .block();
+
+        assertNotNull(documents);
+        assertEquals(1, documents.size());
+        assertEquals("test-transaction-1", documents.get(0).getTransactionId());
+    }
+
+    @Test
+    void streamDocuments_WhenServerError_ShouldSignalError() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(500)
+                .setBody("Internal Server Error"));
+
+        assertThrows(RuntimeException.class, () ->
+                JdkFlowAdapter.flowPublisherToFlux(fbpClient.streamDocuments("123456789")).blockLast());
+    }
+
+    @Test
+    void streamDocumentContent_ShouldEmitContentInChunks() throws InterruptedException {
+        byte[] content = new byte[1024 * 1024];
+        new Random(42).nextBytes(content);
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                .setBody(new Buffer().write(content)));
+
+        List<ByteBuffer> chunks = JdkFlowAdapter.flowPublisherToFlux(fbpClient.streamDocumentContent("test-transaction"))
+                .collectList()
+                .block();
+
+        assertNotNull(chunks);
+        assertTrue(chunks.size() > 1);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        for (ByteBuffer chunk : chunks) {
+            assertTrue(chunk.isReadOnly());
+            byte[] bytes = new byte[chunk.remaining()];
+            chunk.get(bytes);
+            received.writeBytes(bytes);
+        }
+        assertArrayEquals(content, received.toByteArray());
+        assertEquals("/documents/test-transaction/content", mockWebServer.takeRequest().getPath());
+    }
+
+    @Test
+    void streamDocumentContent_WhenNotFound_ShouldSignalError() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        assertThrows(RuntimeException.class, () ->
+                JdkFlowAdapter.flowPublisherToFlux(fbpClient.streamDocumentContent("test-transaction")).blockLast());
+    }
+
+    private static String document(String transactionId) {
+        return """
+                {"transactionId": "%s", "tin": "123456789", "documentType": "F1040", \
+                "documentStatus": "PENDING", "authorizationStatus": "PENDING", "signatureId": null, \
+                "createdDate": "2024-03-15T10:30:45", "updatedDate": "2024-03-15T10:30:45", \
+                "documentContent": "test-content", "metadata": null}""".formatted(transactionId);
+    }
+} 
\ No newline at end of file
@@ -84,7 +84,7 @@ class FBPClientImplTest {
         assertNotNull(result.getCreatedDate());
         assertNotNull(result.getUpdatedDate());
         assertEquals("test-content", result.getDocumentContent());
-        assertEquals("test-metadata", result.getMetadata());
+        assertEquals("\"test-metadata\"", result.getMetadata().toString());
 
         // Verify request
         var request = mockWebServer.takeRequest();
@@ -187,7 +187,7 @@ class FBPClientImplTest {
                 .setBody(mockResponse));
 
         // Execute test
-        CompletableFuture<FBPDocument> future = fbpClient.authorize(action, transactionId, tin, signatureId);
+        CompletableFuture<FBPDocument> future = fbpClient.authorize(action, transactionId, tin, signatureId, "42");
         FBPDocument result = future.get();
 
         // Verify results
@@ -202,6 +202,7 @@ class FBPClientImplTest {
         assertEquals("POST", request.getMethod());
         assertEquals("/documents/" + transactionId + "/authorize", request.getPath());
         assertTrue(request.getHeader("Content-Type").contains(MediaType.APPLICATION_JSON_VALUE));
+        assertEquals("42", request.getHeader("Idempotency-Key"));
     }
 
     @Test
@@ -248,7 +249,7 @@ class FBPClientImplTest {
                 .setBody("Internal Server Error"));
 
         // Execute test and verify exception
-        CompletableFuture<FBPDocument> future = fbpClient.authorize(action, transactionId, tin, signatureId);
+        CompletableFuture<FBPDocument> future = fbpClient.authorize(action, transactionId, tin, signatureId, null);
         assertThrows(ExecutionException.class, future::get);
     }
 } 
\ No newline at end of file
@@ -1,10 +1,15 @@
 package gov.irs.ives.bwas.infrastructure.clients;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.domain.RawJson;
 import gov.irs.ives.bwas.infrastructure.config.TestConfig;
+import io.micrometer.observation.ObservationRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -12,14 +17,23 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Measures FBP client latency and throughput against a mock server. The decode
+ * benchmarks compare the previous decoding path with the cached readers in
+ * {@link DownstreamJson}. Run {@link #main} to include allocation per operation
+ * ({@code gc.alloc.rate.norm}) from the GC profiler.
+ */
 @State(Scope.Benchmark)
 @BenchmarkMode({Mode.AverageTime, Mode.Throughput})
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
@@ -30,11 +44,17 @@ import java.util.concurrent.TimeUnit;
 @Import(TestConfig.class)
 public class FBPClientPerformanceTest {
 
+    private static final String METADATA = """
+            "metadata": {"source": "FBP", "pageCount": 3, "formYear": 2023, \
+            "tags": ["w2", "schedule-c"], "scan": {"dpi": 300, "color": false}}""";
+
     private MockWebServer mockWebServer;
     private FBPClientImpl fbpClient;
     private String mockDocumentResponse;
     private String mockDocumentsResponse;
     private String mockAuthorizeResponse;
+    private byte[] documentBytes;
+    private final ObjectMapper defaultObjectMapper = Jackson2ObjectMapperBuilder.json().build();
 
     @Setup
     public void setup() throws IOException {
@@ -44,7 +64,7 @@ public class FBPClientPerformanceTest {
         // Configure WebClient with mock server
         fbpClient = new FBPClientImpl(WebClient.builder()
                 .baseUrl(mockWebServer.url("/").toString())
-                .build());
+                .build(), ObservationRegistry.NOOP);
 
         // Prepare mock responses
         mockDocumentResponse = """
@@ -63,32 +83,34 @@ public class FBPClientPerformanceTest {
                 """;
 
         mockDocumentsResponse = """
-                [
-                    {
-                        "transactionId": "test-transaction-1",
-                        "tin": "123456789",
-                        "documentType": "F1040",
-                        "documentStatus": "PENDING",
-                        "authorizationStatus": "PENDING",
-                        "signatureId": null,
-                        "createdDate": "2024-03-20T10:00:00Z",
-                        "updatedDate": "2024-03-20T10:00:00Z",
-                        "documentContent": "test-content-1",
-                        "metadata": {}
-                    },
-                    {
-                        "transactionId": "test-transaction-2",
-                        "tin": "123456789",
-                        "documentType": "F1040",
-                        "documentStatus": "PENDING",
-                        "authorizationStatus": "PENDING",
-                        "signatureId": null,
-                        "createdDate": "2024-03-20T10:00:00Z",
-                        "updatedDate": "2024-03-20T10:00:00Z",
-                        "documentContent": "test-content-2",
-                        "metadata": {}
-                    }
-                ]
+                {
+                    "documents": [
+                        {
+                            "transactionId": "test-transaction-1",
+                            "tin": "123456789",
+                            "documentType": "F1040",
+                            "documentStatus": "PENDING",
+                            "authorizationStatus": "PENDING",
+                            "signatureId": null,
+                            "createdDate": "2024-03-20T10:00:00Z",
+                            "updatedDate": "2024-03-20T10:00:00Z",
+                            "documentContent": "test-content-1",
+                            "metadata": {}
+                        },
+                        {
+                            "transactionId": "test-transaction-2",
+                            "tin": "123456789",
+                            "documentType": "F1040",
+                            "documentStatus": "PENDING",
+                            "authorizationStatus": "PENDING",
+                            "signatureId": null,
+                            "createdDate": "2024-03-20T10:00:00Z",
+                            "updatedDate": "2024-03-20T10:00:00Z",
+                            "documentContent": "test-content-2",
+                            "metadata": {}
+                        }
+                    ]
+                }
                 """;
 
         mockAuthorizeResponse = """
@@ -105,6 +127,10 @@ public class FBPClientPerformanceTest {
                     "metadata": {}
                 }
                 """;
+
+        documentBytes = mockDocumentResponse
+                .replace("\"metadata\": {}", METADATA)
+                .getBytes(StandardCharsets.UTF_8);
     }
 
     @TearDown
@@ -148,7 +174,7 @@ public class FBPClientPerformanceTest {
                 .setBody(mockAuthorizeResponse));
 
         CompletableFuture<FBPDocument> future = fbpClient.authorize(
-                "AUTHORIZE", "test-transaction", "123456789", "test-signature-id");
+                "AUTHORIZE", "test-transaction", "123456789", "test-signature-id", null);
         future.get();
     }
 
@@ -191,7 +217,7 @@ public class FBPClientPerformanceTest {
                 .setBody(mockAuthorizeResponse));
 
         CompletableFuture<FBPDocument> future = fbpClient.authorize(
-                "AUTHORIZE", "test-transaction", "123456789", "test-signature-id");
+                "AUTHORIZE", "test-transaction", "123456789", "test-signature-id", null);
         future.get();
     }
 
@@ -234,7 +260,7 @@ public class FBPClientPerformanceTest {
                 .setBody(mockAuthorizeResponse));
 
         CompletableFuture<FBPDocument> future = fbpClient.authorize(
-                "AUTHORIZE", "test-transaction", "123456789", "test-signature-id");
+                "AUTHORIZE", "test-transaction", "123456789", "test-signature-id", null);
         future.get();
     }
 
@@ -283,16 +309,58 @@ public class FBPClientPerformanceTest {
                 .setBody(mockAuthorizeResponse));
 
         CompletableFuture<FBPDocument> future = fbpClient.authorize(
-                "AUTHORIZE", "test-transaction", "123456789", "test-signature-id");
+                "AUTHORIZE", "test-transaction", "123456789", "test-signature-id", null);
         future.get();
 
         // Force garbage collection to measure memory usage
         System.gc();
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public FBPDocument decodeDocument_ResponseRecord() throws IOException {
+        // Previous path: a reader per call, an intermediate record and a builder copy, with
+        // metadata decoded eagerly into a tree since FBP sends an object
+        FBPDocumentResponse response = defaultObjectMapper.readerFor(FBPDocumentResponse.class)
+                .readValue(documentBytes);
+        return FBPDocument.builder()
+                .transactionId(response.transactionId())
+                .tin(response.tin())
+                .documentType(response.documentType())
+                .documentStatus(response.documentStatus())
+                .authorizationStatus(response.authorizationStatus())
+                .signatureId(response.signatureId())
+                .createdDate(response.createdDate())
+                .updatedDate(response.updatedDate())
+                .documentContent(response.documentContent())
+                .metadata(response.metadata() != null ? RawJson.of(response.metadata().toString()) : null)
+                .build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public FBPDocument decodeDocument_CachedReader() throws IOException {
+        return DownstreamJson.FBP_DOCUMENT.readValue(documentBytes);
+    }
+
+    private record FBPDocumentResponse(
+            String transactionId,
+            String tin,
+            String documentType,
+            String documentStatus,
+            String authorizationStatus,
+            String signatureId,
+            LocalDateTime createdDate,
+            LocalDateTime updatedDate,
+            String documentContent,
+            JsonNode metadata) {}
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(FBPClientPerformanceTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
                 .build();
         new Runner(opt).run();
     }
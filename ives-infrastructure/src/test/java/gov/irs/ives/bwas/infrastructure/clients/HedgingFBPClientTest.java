@@ -0,0 +1,144 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import gov.irs.ives.bwas.infrastructure.config.HedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class HedgingFBPClientTest {
+
+    private final FBPClient delegate = mock(FBPClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HedgingProperties properties = new HedgingProperties();
+    private HedgingFBPClient hedgingClient;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setMaxDelay(Duration.ofMillis(20));
+        hedgingClient = new HedgingFBPClient(delegate, properties, meterRegistry);
+    }
+
+    @Test
+    void getDocument_WhenFirstAttemptIsFast_ShouldNotHedge() throws Exception {
+        when(delegate.getDocument("test-transaction"))
+                .thenReturn(CompletableFuture.completedFuture(document("test-transaction")));
+
+        hedgingClient.getDocument("test-transaction").get(1, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        verify(delegate, times(1)).getDocument("test-transaction");
+        assertEquals(0.0, counter("getDocument", "sent"));
+    }
+
+    @Test
+    void getDocument_WhenFirstAttemptIsSlow_ShouldUseHedgeAndCancelFirst() throws Exception {
+        CompletableFuture<FBPDocument> slow = new CompletableFuture<>();
+        FBPDocument hedged = document("test-transaction");
+        when(delegate.getDocument("test-transaction"))
+                .thenReturn(slow)
+                .thenReturn(CompletableFuture.completedFuture(hedged));
+
+        FBPDocument result = hedgingClient.getDocument("test-transaction").get(1, TimeUnit.SECONDS);
+
+        assertSame(hedged, result);
+        // The loser is cancelled right after the winner completes the result
+        assertThrows(CancellationException.class, () -> slow.get(1, TimeUnit.SECONDS));
+        assertEquals(1.0, counter("getDocument", "sent"));
+        assertEquals(1.0, counter("getDocument", "won"));
+    }
+
+    @Test
+    void getDocument_WhenHedgeFails_ShouldWaitForFirstAttempt() throws Exception {
+        CompletableFuture<FBPDocument> slow = new CompletableFuture<>();
+        when(delegate.getDocument("test-transaction"))
+                .thenReturn(slow)
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("FBP unavailable")));
+
+        CompletableFuture<FBPDocument> result = hedgingClient.getDocument("test-transaction");
+        verify(delegate, timeout(1000).times(2)).getDocument("test-transaction");
+        assertFalse(result.isDone());
+
+        FBPDocument document = document("test-transaction");
+        slow.complete(document);
+        assertSame(document, result.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void getDocument_WhenFirstAttemptFailsBeforeHedge_ShouldFailWithoutHedging() {
+        when(delegate.getDocument("test-transaction"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Not found")));
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> hedgingClient.getDocument("test-transaction").get(1, TimeUnit.SECONDS));
+
+        assertEquals("Not found", ex.getCause().getMessage());
+        verify(delegate, times(1)).getDocument("test-transaction");
+    }
+
+    @Test
+    void getDocument_WhenBudgetExhausted_ShouldNotHedge() throws Exception {
+        properties.setBudgetBurst(0);
+        hedgingClient = new HedgingFBPClient(delegate, properties, meterRegistry);
+        CompletableFuture<FBPDocument> slow = new CompletableFuture<>();
+        when(delegate.getDocument("test-transaction")).thenReturn(slow);
+
+        CompletableFuture<FBPDocument> result = hedgingClient.getDocument("test-transaction");
+        Thread.sleep(100);
+
+        assertFalse(result.isDone());
+        verify(delegate, times(1)).getDocument("test-transaction");
+        assertEquals(1.0, counter("getDocument", "throttled"));
+    }
+
+    @Test
+    void getDocument_WhenCallerCancels_ShouldCancelAttempts() {
+        CompletableFuture<FBPDocument> slow = new CompletableFuture<>();
+        when(delegate.getDocument("test-transaction")).thenReturn(slow);
+
+        hedgingClient.getDocument("test-transaction").cancel(true);
+
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    void authorize_ShouldNeverHedge() throws Exception {
+        CompletableFuture<FBPDocument> slow = new CompletableFuture<>();
+        when(delegate.authorize(anyString(), anyString(), anyString(), anyString(), any())).thenReturn(slow);
+
+        CompletableFuture<FBPDocument> result = hedgingClient.authorize("APPROVE", "test-transaction", "123456789",
+                "sig-1", "42");
+        Thread.sleep(50);
+
+        assertSame(slow, result);
+        verify(delegate, times(1)).authorize("APPROVE", "test-transaction", "123456789", "sig-1", "42");
+    }
+
+    private double counter(String operation, String outcome) {
+        return meterRegistry.get("fbp.client.hedges")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private static FBPDocument document(String transactionId) {
+        return FBPDocument.builder()
+                .transactionId(transactionId)
+                .tin("123456789")
+                .documentStatus("PENDING")
+                .build();
+    }
+} 
\ No newline at end of file
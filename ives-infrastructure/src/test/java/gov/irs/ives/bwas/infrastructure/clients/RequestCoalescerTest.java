@@ -0,0 +1,123 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private final RequestCoalescer<String, String> coalescer = new RequestCoalescer<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void execute_WithSameKeyInFlight_ShouldShareOneCall() throws ExecutionException, InterruptedException {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.execute("key", () -> call(upstream));
+        CompletableFuture<String> second = coalescer.execute("key", () -> call(upstream));
+        upstream.complete("result");
+
+        assertEquals("result", first.get());
+        assertEquals("result", second.get());
+        assertEquals(1, calls.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void execute_WithCopier_ShouldGiveEachCallerItsOwnResult() throws ExecutionException, InterruptedException {
+        RequestCoalescer<String, StringBuilder> copying = new RequestCoalescer<>(StringBuilder::new);
+        CompletableFuture<StringBuilder> upstream = new CompletableFuture<>();
+
+        CompletableFuture<StringBuilder> first = copying.execute("key", () -> upstream);
+        CompletableFuture<StringBuilder> second = copying.execute("key", () -> upstream);
+        upstream.complete(new StringBuilder("result"));
+        first.get().append("-modified");
+
+        assertEquals("result", second.get().toString());
+        assertNotSame(upstream.get(), second.get());
+    }
+
+    @Test
+    void execute_WithDifferentKeys_ShouldNotShareCalls() {
+        coalescer.execute("key-1", () -> call(new CompletableFuture<>()));
+        coalescer.execute("key-2", () -> call(new CompletableFuture<>()));
+
+        assertEquals(2, calls.get());
+        assertEquals(2, coalescer.inFlightCount());
+    }
+
+    @Test
+    void execute_AfterCallCompletes_ShouldStartNewCall() {
+        coalescer.execute("key", () -> call(CompletableFuture.completedFuture("first")));
+        coalescer.execute("key", () -> call(CompletableFuture.completedFuture("second")));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_WhenCallFails_ShouldPropagateErrorToAllCallers() {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.execute("key", () -> call(upstream));
+        CompletableFuture<String> second = coalescer.execute("key", () -> call(upstream));
+        upstream.completeExceptionally(new IllegalStateException("FBP unavailable"));
+
+        ExecutionException firstError = assertThrows(ExecutionException.class, first::get);
+        ExecutionException secondError = assertThrows(ExecutionException.class, second::get);
+        assertInstanceOf(IllegalStateException.class, firstError.getCause());
+        assertInstanceOf(IllegalStateException.class, secondError.getCause());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void execute_WhenSupplierThrows_ShouldFailCaller() {
+        CompletableFuture<String> result = coalescer.execute("key", () -> {
+            throw new IllegalStateException("bad request");
+        });
+
+        assertThrows(ExecutionException.class, result::get);
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void cancel_WithRemainingCallers_ShouldNotCancelSharedCall() throws ExecutionException, InterruptedException {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.execute("key", () -> call(upstream));
+        CompletableFuture<String> second = coalescer.execute("key", () -> call(upstream));
+        first.cancel(true);
+        upstream.complete("result");
+
+        assertTrue(first.isCancelled());
+        assertFalse(upstream.isCancelled());
+        assertEquals("result", second.get());
+    }
+
+    @Test
+    void cancel_ByAllCallers_ShouldCancelSharedCall() {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.execute("key", () -> call(upstream));
+        CompletableFuture<String> second = coalescer.execute("key", () -> call(upstream));
+        first.cancel(true);
+        second.cancel(true);
+
+        assertTrue(upstream.isCancelled());
+        assertEquals(0, coalescer.inFlightCount());
+
+        CompletableFuture<String> next = new CompletableFuture<>();
+        CompletableFuture<String> third = coalescer.execute("key", () -> call(next));
+        next.complete("fresh");
+        assertEquals("fresh", third.join());
+        assertEquals(2, calls.get());
+    }
+
+    private CompletableFuture<String> call(CompletableFuture<String> upstream) {
+        calls.incrementAndGet();
+        return upstream;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,131 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.core.domain.EssarSignature;
+import gov.irs.ives.bwas.core.exceptions.DependencyUnavailableException;
+import gov.irs.ives.bwas.core.ports.EssarClient;
+import gov.irs.ives.bwas.infrastructure.config.ResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ResilientEssarClientTest {
+
+    private final EssarClient delegate = mock(EssarClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResilienceProperties properties = new ResilienceProperties();
+    private CircuitBreaker circuitBreaker;
+    private AdaptiveConcurrencyLimiter limiter;
+    private ResilientEssarClient client;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMinimumCalls(2);
+        properties.setSlidingWindowSize(4);
+        properties.setInitialLimit(2);
+        properties.setMinLimit(1);
+        properties.setTimeout(Duration.ofMillis(100));
+        circuitBreaker = new CircuitBreaker("essar", properties);
+        limiter = new AdaptiveConcurrencyLimiter("essar", properties);
+        client = new ResilientEssarClient(delegate, circuitBreaker, limiter, properties, meterRegistry);
+    }
+
+    @Test
+    void getElectronicSignature_WhenSuccessful_ShouldReturnSignatureAndFreePermit() throws Exception {
+        EssarSignature signature = EssarSignature.builder().signatureId("sig-1").build();
+        when(delegate.getElectronicSignature(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(signature));
+
+        assertSame(signature, sign().get(1, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void getElectronicSignature_WhenCircuitOpen_ShouldFailFastWithoutCallingEssar() {
+        when(delegate.getElectronicSignature(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Connection reset")));
+        assertThrows(ExecutionException.class, () -> sign().get(1, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> sign().get(1, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> sign().get(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(DependencyUnavailableException.class, ex.getCause());
+        verify(delegate, times(2)).getElectronicSignature(any(), any(), any(), any(), any(), any(), any());
+        assertEquals(1.0, meterRegistry.get("essar.client.rejections").tag("reason", "circuit_open")
+                .counter().count());
+    }
+
+    @Test
+    void getElectronicSignature_WhenAtConcurrencyLimit_ShouldFailFast() {
+        when(delegate.getElectronicSignature(any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> new CompletableFuture<>());
+        properties.setTimeout(Duration.ofSeconds(5));
+        client = new ResilientEssarClient(delegate, circuitBreaker, limiter, properties, meterRegistry);
+        sign();
+        sign();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> sign().get(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(DependencyUnavailableException.class, ex.getCause());
+        verify(delegate, times(2)).getElectronicSignature(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getElectronicSignature_WhenEssarDoesNotAnswer_ShouldTimeOutCancelAndBackOff() {
+        CompletableFuture<EssarSignature> hanging = new CompletableFuture<>();
+        when(delegate.getElectronicSignature(any(), any(), any(), any(), any(), any(), any())).thenReturn(hanging);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> sign().get(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+        // The call is cancelled last, after the limit has been adjusted
+        assertThrows(CancellationException.class, () -> hanging.get(1, TimeUnit.SECONDS));
+        assertEquals(1, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void getElectronicSignature_WhenCallerCancels_ShouldCancelCallWithoutCountingFailure() {
+        CompletableFuture<EssarSignature> hanging = new CompletableFuture<>();
+        when(delegate.getElectronicSignature(any(), any(), any(), any(), any(), any(), any())).thenReturn(hanging);
+
+        sign().cancel(true);
+
+        assertTrue(hanging.isCancelled());
+        assertEquals(0.0, circuitBreaker.getFailureRate());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void getElectronicSignature_WhenClientError_ShouldNotOpenCircuit() {
+        when(delegate.getElectronicSignature(any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(
+                        WebClientResponseException.create(HttpStatus.BAD_REQUEST.value(), "Bad Request",
+                                null, null, null)));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ExecutionException.class, () -> sign().get(1, TimeUnit.SECONDS));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(2, limiter.getLimit());
+    }
+
+    private CompletableFuture<EssarSignature> sign() {
+        return client.getElectronicSignature("test-user", "tx-1", "test-user", "123456789",
+                "4506-C", "IVES-BWAS", "IVES-AUTHORIZATION");
+    }
+} 
\ No newline at end of file
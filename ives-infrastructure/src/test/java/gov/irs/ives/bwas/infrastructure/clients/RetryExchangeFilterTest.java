@@ -0,0 +1,149 @@
+package gov.irs.ives.bwas.infrastructure.clients;
+
+import gov.irs.ives.bwas.infrastructure.config.RetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryExchangeFilterTest {
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RetryProperties properties = new RetryProperties();
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer.start();
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(5));
+        properties.setAttemptTimeout(Duration.ofSeconds(5));
+        webClient = webClient();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void get_WhenServiceUnavailableThenOk_ShouldRetry() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setBody("ok"));
+
+        assertEquals("ok", get().block());
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1.0, retries("status"));
+    }
+
+    @Test
+    void get_WhenAttemptsExhausted_ShouldReturnLastResponse() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+
+        WebClientResponseException ex = assertThrows(WebClientResponseException.class, () -> get().block());
+        assertEquals(502, ex.getStatusCode().value());
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void get_WhenAttemptTimesOut_ShouldRetry() {
+        properties.setAttemptTimeout(Duration.ofMillis(500));
+        webClient = webClient();
+        mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        mockWebServer.enqueue(new MockResponse().setBody("ok"));
+
+        assertEquals("ok", get().block());
+        assertEquals(1.0, retries("timeout"));
+    }
+
+    @Test
+    void get_WhenClientError_ShouldNotRetry() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        assertThrows(WebClientResponseException.NotFound.class, () -> get().block());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void post_WhenServiceUnavailable_ShouldNotRetry() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        assertThrows(WebClientResponseException.ServiceUnavailable.class, () -> post(false).block());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void post_WhenMarkedIdempotent_ShouldRetry() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setBody("ok"));
+
+        assertEquals("ok", post(true).block());
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void get_WhenBudgetExhausted_ShouldNotRetry() {
+        properties.setBudgetRatio(0);
+        properties.setBudgetBurst(1);
+        webClient = webClient();
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setBody("ok"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        assertEquals("ok", get().block());
+        assertThrows(WebClientResponseException.ServiceUnavailable.class, () -> get().block());
+        assertEquals(3, mockWebServer.getRequestCount());
+        assertEquals(1.0, meterRegistry.get("fbp.client.retry.budget.exhausted").counter().count());
+    }
+
+    @Test
+    void get_WhenTimeoutRetryRefusedByBudget_ShouldOnlyCountExhaustion() {
+        properties.setAttemptTimeout(Duration.ofMillis(500));
+        properties.setBudgetRatio(0);
+        properties.setBudgetBurst(0);
+        webClient = webClient();
+        mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+
+        assertThrows(RuntimeException.class, () -> get().block());
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(0.0, retries("timeout"));
+        assertEquals(1.0, meterRegistry.get("fbp.client.retry.budget.exhausted").counter().count());
+    }
+
+    private WebClient webClient() {
+        return WebClient.builder()
+                .baseUrl(mockWebServer.url("/").toString())
+                .filter(new RetryExchangeFilter("fbp", properties, meterRegistry))
+                .build();
+    }
+
+    private Mono<String> get() {
+        return webClient.get().uri("/documents").retrieve().bodyToMono(String.class);
+    }
+
+    private Mono<String> post(boolean idempotent) {
+        return webClient.post().uri("/signatures")
+                .attribute(RetryExchangeFilter.IDEMPOTENT, idempotent)
+                .bodyValue("{}")
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    private double retries(String reason) {
+        return meterRegistry.get("fbp.client.retries").tag("reason", reason).counter().count();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,124 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.infrastructure.config.PersistenceConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rows written per second when updating documents through
+ * {@link AuthorizationRepository#saveAll} in chunks of 1, 50 and 500, with the Hibernate
+ * JDBC batch size matching the chunk size. Each chunk loads its documents with one query,
+ * changes their status and saves them in one transaction, like a bulk authorization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class AuthorizationRepositoryBatchPerformanceTest {
+
+    private static final int ROWS = 500;
+
+    @Param({"1", "50", "500"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private AuthorizationRepository repository;
+    private TransactionTemplate transactionTemplate;
+    private final List<List<String>> chunks = new ArrayList<>();
+    private int round;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:batch-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "authorization.persistence.batch-size=" + batchSize,
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(AuthorizationRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        List<AuthorizationDocument> documents = new ArrayList<>(ROWS);
+        List<String> ids = new ArrayList<>(ROWS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ROWS; i++) {
+            String transactionId = String.format("tx-%05d", i);
+            ids.add(transactionId);
+            documents.add(AuthorizationDocument.builder()
+                    .transactionId(transactionId)
+                    .tin("123456789")
+                    .tinType("SSN")
+                    .documentType("F1040")
+                    .documentStatus("PENDING")
+                    .authorizationStatus("PENDING")
+                    .createdDate(now)
+                    .build());
+        }
+        transactionTemplate.executeWithoutResult(status -> repository.saveAll(documents));
+        for (int from = 0; from < ROWS; from += batchSize) {
+            chunks.add(ids.subList(from, Math.min(from + batchSize, ROWS)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void updateRows() {
+        String authorizationStatus = (round++ & 1) == 0 ? "APPROVE" : "REJECT";
+        LocalDateTime now = LocalDateTime.now();
+        for (List<String> chunk : chunks) {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<AuthorizationDocument> documents = repository.findByTransactionIds(chunk);
+                for (AuthorizationDocument document : documents) {
+                    document.setAuthorizationStatus(authorizationStatus);
+                    document.setUpdatedDate(now);
+                }
+                repository.saveAll(documents);
+            });
+        }
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = AuthorizationOutboxEvent.class)
+    @EnableJpaRepositories(basePackageClasses = JpaAuthorizationRepository.class)
+    @Import({AuthorizationRepositoryImpl.class, PersistenceConfig.class})
+    static class BenchmarkApplication {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(AuthorizationRepositoryBatchPerformanceTest.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,180 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentSummary;
+import gov.irs.ives.bwas.core.exceptions.AuthorizationConflictException;
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@ContextConfiguration(classes = AuthorizationRepositoryImplTest.TestApplication.class)
+class AuthorizationRepositoryImplTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    @Autowired
+    private AuthorizationRepositoryImpl repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(document("tx-1", "123456789", CREATED.minusDays(2)));
+        entityManager.persist(document("tx-2", "123456789", CREATED.minusDays(1)));
+        entityManager.persist(document("tx-3", "123456789", CREATED));
+        entityManager.persist(document("tx-4", "987654321", CREATED));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findByTin_ShouldPageNewestFirst() {
+        AuthorizationDocumentPage first = repository.findByTin("123456789", null, 2);
+        AuthorizationDocumentPage second = repository.findByTin("123456789", first.getNextPageToken(), 2);
+
+        assertEquals(List.of("tx-3", "tx-2"), transactionIds(first));
+        assertNotNull(first.getNextPageToken());
+        assertEquals(List.of("tx-1"), transactionIds(second));
+        assertNull(second.getNextPageToken());
+    }
+
+    @Test
+    void findByTin_WithEqualCreatedDates_ShouldPageByTransactionIdWithoutGapsOrRepeats() {
+        for (int i = 1; i <= 5; i++) {
+            entityManager.persist(document("tx-same-" + i, "555555555", CREATED));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> seen = new ArrayList<>();
+        String pageToken = null;
+        do {
+            AuthorizationDocumentPage page = repository.findByTin("555555555", pageToken, 2);
+            seen.addAll(transactionIds(page));
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        assertEquals(List.of("tx-same-5", "tx-same-4", "tx-same-3", "tx-same-2", "tx-same-1"), seen);
+    }
+
+    @Test
+    void findByTin_WhenPageIsExactlyFull_ShouldNotReturnNextPageToken() {
+        AuthorizationDocumentPage page = repository.findByTin("123456789", null, 3);
+
+        assertEquals(List.of("tx-3", "tx-2", "tx-1"), transactionIds(page));
+        assertNull(page.getNextPageToken());
+    }
+
+    @Test
+    void findByTin_WithInvalidPageToken_ShouldThrowInvalidRequestException() {
+        assertThrows(InvalidRequestException.class, () -> repository.findByTin("123456789", "not a token", 2));
+    }
+
+    @Test
+    void findByTin_ShouldNotLoadManagedEntities() {
+        AuthorizationDocumentPage page = repository.findByTin("123456789", null, 25);
+
+        assertEquals(3, page.getDocuments().size());
+        assertEquals("F1040", page.getDocuments().get(0).documentType());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void updateAuthorizationStatus_ShouldOnlyUpdatePendingDocumentOnce() {
+        LocalDateTime now = CREATED.plusHours(1);
+
+        assertTrue(repository.updateAuthorizationStatus("tx-1", "123456789", "PENDING", "APPROVE", now));
+        assertFalse(repository.updateAuthorizationStatus("tx-1", "123456789", "PENDING", "REJECT", now));
+        assertFalse(repository.updateAuthorizationStatus("tx-2", "987654321", "PENDING", "REJECT", now));
+        entityManager.clear();
+
+        AuthorizationDocument document = repository.findByTransactionId("tx-1").orElseThrow();
+        assertEquals("APPROVE", document.getAuthorizationStatus());
+        assertEquals(now, document.getUpdatedDate());
+        assertEquals(1L, document.getVersion());
+    }
+
+    @Test
+    void updateAuthorizationStatuses_ShouldApplyEachUpdateOnItsOwn() {
+        LocalDateTime now = CREATED.plusHours(1);
+        repository.updateAuthorizationStatus("tx-2", "123456789", "PENDING", "REJECT", now);
+
+        boolean[] updated = repository.updateAuthorizationStatuses(List.of(
+                decision("tx-1", "123456789", "APPROVE"),
+                decision("tx-2", "123456789", "APPROVE"),
+                decision("tx-4", "123456789", "APPROVE"),
+                decision("tx-3", "123456789", "REJECT")), "PENDING", now);
+        entityManager.clear();
+
+        assertArrayEquals(new boolean[] {true, false, false, true}, updated);
+        AuthorizationDocument approved = repository.findByTransactionId("tx-1").orElseThrow();
+        assertEquals("APPROVE", approved.getAuthorizationStatus());
+        assertEquals(now, approved.getUpdatedDate());
+        assertEquals(1L, approved.getVersion());
+        assertEquals("REJECT", repository.findByTransactionId("tx-2").orElseThrow().getAuthorizationStatus());
+        assertEquals("PENDING", repository.findByTransactionId("tx-4").orElseThrow().getAuthorizationStatus());
+        assertEquals("REJECT", repository.findByTransactionId("tx-3").orElseThrow().getAuthorizationStatus());
+    }
+
+    @Test
+    void save_WhenDocumentChangedSinceLoad_ShouldThrowConflict() {
+        AuthorizationDocument stale = repository.findByTransactionId("tx-1").orElseThrow();
+        entityManager.clear();
+        repository.updateAuthorizationStatus("tx-1", "123456789", "PENDING", "APPROVE", CREATED);
+
+        stale.setAuthorizationStatus("REJECT");
+        AuthorizationConflictException ex = assertThrows(AuthorizationConflictException.class,
+                () -> repository.save(stale));
+        assertEquals("tx-1", ex.getTransactionId());
+    }
+
+    private static List<String> transactionIds(AuthorizationDocumentPage page) {
+        return page.getDocuments().stream().map(AuthorizationDocumentSummary::transactionId).toList();
+    }
+
+    private static AuthorizationDecision decision(String transactionId, String documentTin, String action) {
+        return AuthorizationDecision.builder()
+                .transactionId(transactionId)
+                .documentTin(documentTin)
+                .action(action)
+                .build();
+    }
+
+    private static AuthorizationDocument document(String transactionId, String tin, LocalDateTime createdDate) {
+        return AuthorizationDocument.builder()
+                .transactionId(transactionId)
+                .tin(tin)
+                .tinType("SSN")
+                .documentType("F1040")
+                .documentStatus("PENDING")
+                .authorizationStatus("PENDING")
+                .createdDate(createdDate)
+                .build();
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = AuthorizationOutboxEvent.class)
+    @EnableJpaRepositories(basePackageClasses = JpaAuthorizationRepository.class)
+    @Import(AuthorizationRepositoryImpl.class)
+    static class TestApplication {
+    }
+} 
\ No newline at end of file
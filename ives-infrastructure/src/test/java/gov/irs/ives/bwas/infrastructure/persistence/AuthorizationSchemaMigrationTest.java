@@ -0,0 +1,104 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the migrations against H2 with Hibernate validating the mapping against the
+ * resulting schema, and checks that the document list queries are answered from the
+ * TIN index in index order rather than by scanning and sorting.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@ContextConfiguration(classes = AuthorizationSchemaMigrationTest.TestApplication.class)
+class AuthorizationSchemaMigrationTest {
+
+    private static final String TIN_INDEX = "IDX_AUTHORIZATION_DOCUMENT_TIN_CREATED";
+
+    // Same shape as the SQL generated for JpaAuthorizationRepository's page queries
+    private static final String SELECT_PAGE = """
+            select transaction_id, tin, tin_type, status, created_date, updated_date,
+                   document_type, document_status, authorization_status
+            from authorization_document
+            where tin = '123456789' %s
+            order by tin, created_date desc, transaction_id desc
+            fetch first 26 rows only""";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Enough rows over enough TINs that the optimizer prefers an index over a scan
+        LocalDateTime created = LocalDateTime.of(2024, 3, 15, 10, 30);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            rows.add(new Object[] {String.format("tx-%05d", i), String.format("%09d", i % 500),
+                    Timestamp.valueOf(created.minusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into authorization_document
+                    (transaction_id, tin, tin_type, created_date, document_type, document_status, authorization_status)
+                values (?, ?, 'SSN', ?, 'F1040', 'PENDING', 'PENDING')""", rows);
+    }
+
+    @Test
+    void migrations_ShouldBeApplied() {
+        List<String> versions = jdbcTemplate.queryForList("""
+                select "version" from "flyway_schema_history"
+                where "success" and "version" is not null
+                order by "installed_rank"
+                """, String.class);
+
+        assertEquals(List.of("1", "2", "3", "4"), versions);
+    }
+
+    @Test
+    void createdDate_ShouldBeRequired() {
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update("""
+                insert into authorization_document (transaction_id, tin, authorization_status)
+                values ('tx-undated', '123456789', 'PENDING')"""));
+    }
+
+    @Test
+    void firstPage_ShouldReadTinIndexInOrder() {
+        String plan = explain(SELECT_PAGE.formatted(""));
+
+        assertTrue(plan.contains(TIN_INDEX), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void pageAfterCursor_ShouldReadTinIndexInOrder() {
+        String plan = explain(SELECT_PAGE.formatted("""
+                and (created_date < timestamp '2024-03-15 09:00:00'
+                     or (created_date = timestamp '2024-03-15 09:00:00' and transaction_id < 'tx-00090'))"""));
+
+        assertTrue(plan.contains(TIN_INDEX), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = AuthorizationOutboxEvent.class)
+    @EnableJpaRepositories(basePackageClasses = JpaAuthorizationRepository.class)
+    static class TestApplication {
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,142 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.infrastructure.config.EntityCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingAuthorizationRepositoryTest {
+
+    private final AuthorizationRepository delegate = mock(AuthorizationRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CachingAuthorizationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingAuthorizationRepository(delegate, new EntityCacheProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void findByTransactionId_WhenCalledTwice_ShouldQueryOnce() {
+        when(delegate.findByTransactionId("tx-1")).thenReturn(Optional.of(document("tx-1", "PENDING")));
+
+        Optional<AuthorizationDocument> first = repository.findByTransactionId("tx-1");
+        Optional<AuthorizationDocument> second = repository.findByTransactionId("tx-1");
+
+        assertEquals(first, second);
+        verify(delegate, times(1)).findByTransactionId("tx-1");
+        assertEquals(1.0, counter("hit"));
+        assertEquals(1.0, counter("miss"));
+    }
+
+    @Test
+    void findByTransactionId_ShouldReturnCopies() {
+        when(delegate.findByTransactionId("tx-1")).thenReturn(Optional.of(document("tx-1", "PENDING")));
+
+        repository.findByTransactionId("tx-1").orElseThrow().setAuthorizationStatus("APPROVE");
+
+        assertEquals("PENDING", repository.findByTransactionId("tx-1").orElseThrow().getAuthorizationStatus());
+    }
+
+    @Test
+    void findByTransactionId_WhenMissing_ShouldNotCacheAbsence() {
+        when(delegate.findByTransactionId("tx-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(document("tx-1", "PENDING")));
+
+        assertTrue(repository.findByTransactionId("tx-1").isEmpty());
+        assertTrue(repository.findByTransactionId("tx-1").isPresent());
+    }
+
+    @Test
+    void save_ShouldEvictCachedDocument() {
+        when(delegate.findByTransactionId("tx-1"))
+                .thenReturn(Optional.of(document("tx-1", "PENDING")))
+                .thenReturn(Optional.of(document("tx-1", "APPROVE")));
+        repository.findByTransactionId("tx-1");
+
+        repository.save(document("tx-1", "APPROVE"));
+
+        assertEquals("APPROVE", repository.findByTransactionId("tx-1").orElseThrow().getAuthorizationStatus());
+        verify(delegate, times(2)).findByTransactionId("tx-1");
+    }
+
+    @Test
+    void saveAll_InTransaction_ShouldEvictAgainAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(delegate.findByTransactionId("tx-1")).thenReturn(Optional.of(document("tx-1", "PENDING")));
+
+        repository.saveAll(List.of(document("tx-1", "APPROVE")));
+        // A concurrent read before commit still sees and caches the old row
+        repository.findByTransactionId("tx-1");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        repository.findByTransactionId("tx-1");
+
+        verify(delegate, times(2)).findByTransactionId("tx-1");
+    }
+
+    @Test
+    void updateAuthorizationStatuses_ShouldEvictCachedDocuments() {
+        when(delegate.findByTransactionId("tx-1"))
+                .thenReturn(Optional.of(document("tx-1", "PENDING")))
+                .thenReturn(Optional.of(document("tx-1", "APPROVE")));
+        repository.findByTransactionId("tx-1");
+
+        repository.updateAuthorizationStatuses(List.of(AuthorizationDecision.builder()
+                .transactionId("tx-1").documentTin("123456789").action("APPROVE").build()),
+                "PENDING", LocalDateTime.now());
+
+        assertEquals("APPROVE", repository.findByTransactionId("tx-1").orElseThrow().getAuthorizationStatus());
+    }
+
+    @Test
+    void delete_ShouldEvictCachedDocument() {
+        when(delegate.findByTransactionId("tx-1"))
+                .thenReturn(Optional.of(document("tx-1", "PENDING")))
+                .thenReturn(Optional.empty());
+        repository.findByTransactionId("tx-1");
+
+        repository.delete("tx-1");
+
+        assertTrue(repository.findByTransactionId("tx-1").isEmpty());
+        verify(delegate).delete("tx-1");
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CachingAuthorizationRepository.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static AuthorizationDocument document(String transactionId, String authorizationStatus) {
+        return AuthorizationDocument.builder()
+                .transactionId(transactionId)
+                .tin("123456789")
+                .tinType("SSN")
+                .authorizationStatus(authorizationStatus)
+                .build();
+    }
+} 
\ No newline at end of file
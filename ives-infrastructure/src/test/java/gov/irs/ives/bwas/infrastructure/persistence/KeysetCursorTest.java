@@ -0,0 +1,35 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encode_ThenDecode_ShouldRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(
+                LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123000000), "test-transaction|1");
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void encode_ShouldBeUrlSafe() {
+        String token = new KeysetCursor(LocalDateTime.of(2024, 3, 15, 10, 30), "a/b+c?d").encode();
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "fHRlc3QtdHJhbnNhY3Rpb24", "aW52YWxpZHx0ZXN0"})
+    void decode_WithInvalidToken_ShouldThrowInvalidRequestException(String token) {
+        assertThrows(InvalidRequestException.class, () -> KeysetCursor.decode(token));
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,138 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentSummary;
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.infrastructure.config.EntityCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PageCachingAuthorizationRepositoryTest {
+
+    private final AuthorizationRepository delegate = mock(AuthorizationRepository.class);
+    private PageCachingAuthorizationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new PageCachingAuthorizationRepository(delegate, new EntityCacheProperties(),
+                new SimpleMeterRegistry());
+        when(delegate.findByTin(any(), any(), anyInt()))
+                .thenAnswer(invocation -> page(invocation.getArgument(0), "PENDING"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void findByTin_WhenCalledTwice_ShouldQueryOnce() {
+        repository.findByTin("123456789", null, 25);
+        repository.findByTin("123456789", null, 25);
+
+        verify(delegate, times(1)).findByTin("123456789", null, 25);
+    }
+
+    @Test
+    void findByTin_ShouldKeyByTokenAndPageSize() {
+        repository.findByTin("123456789", null, 25);
+        repository.findByTin("123456789", "next-page", 25);
+        repository.findByTin("123456789", null, 50);
+
+        verify(delegate, times(3)).findByTin(eq("123456789"), any(), anyInt());
+    }
+
+    @Test
+    void findByTin_ShouldServeCachedPageAsIs() {
+        AuthorizationDocumentPage first = repository.findByTin("123456789", null, 25);
+
+        assertSame(first, repository.findByTin("123456789", null, 25));
+    }
+
+    @Test
+    void save_ShouldInvalidateOnlyPagesOfThatTin() {
+        repository.findByTin("123456789", null, 25);
+        repository.findByTin("987654321", null, 25);
+
+        repository.save(document("tx-1", "123456789", "APPROVE"));
+        repository.findByTin("123456789", null, 25);
+        repository.findByTin("987654321", null, 25);
+
+        verify(delegate, times(2)).findByTin("123456789", null, 25);
+        verify(delegate, times(1)).findByTin("987654321", null, 25);
+    }
+
+    @Test
+    void save_WhenPageReadDuringWrite_ShouldNotServeItAfterwards() {
+        when(delegate.save(any())).thenAnswer(invocation -> {
+            // Another request lists the TIN while the row is being written
+            repository.findByTin("123456789", null, 25);
+            return invocation.getArgument(0);
+        });
+
+        repository.save(document("tx-1", "123456789", "APPROVE"));
+        repository.findByTin("123456789", null, 25);
+
+        verify(delegate, times(2)).findByTin("123456789", null, 25);
+    }
+
+    @Test
+    void saveAll_InTransaction_ShouldInvalidateAgainAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        repository.saveAll(List.of(document("tx-1", "123456789", "APPROVE")));
+        // A read before commit caches the old rows under the bumped version
+        repository.findByTin("123456789", null, 25);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        repository.findByTin("123456789", null, 25);
+
+        verify(delegate, times(2)).findByTin("123456789", null, 25);
+    }
+
+    @Test
+    void delete_ShouldInvalidatePagesOfDocumentTin() {
+        when(delegate.findByTransactionId("tx-1"))
+                .thenReturn(Optional.of(document("tx-1", "123456789", "PENDING")));
+        repository.findByTin("123456789", null, 25);
+
+        repository.delete("tx-1");
+        repository.findByTin("123456789", null, 25);
+
+        verify(delegate).delete("tx-1");
+        verify(delegate, times(2)).findByTin("123456789", null, 25);
+    }
+
+    private static AuthorizationDocumentPage page(String tin, String authorizationStatus) {
+        return AuthorizationDocumentPage.builder()
+                .documents(List.of(new AuthorizationDocumentSummary("tx-1", tin, "SSN", null, null, null,
+                        "F1040", "PENDING", authorizationStatus)))
+                .pageSize(25)
+                .build();
+    }
+
+    private static AuthorizationDocument document(String transactionId, String tin, String authorizationStatus) {
+        return AuthorizationDocument.builder()
+                .transactionId(transactionId)
+                .tin(tin)
+                .tinType("SSN")
+                .authorizationStatus(authorizationStatus)
+                .build();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,110 @@
+package gov.irs.ives.bwas.infrastructure.persistence;
+
+import gov.irs.ives.bwas.core.util.TransactionIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares random UUIDs with time-ordered IDs from {@link TransactionIdGenerator}:
+ * generation throughput from 8 threads, and rows inserted per second into the
+ * authorization document table with its primary key and TIN index. The table keeps
+ * growing across iterations, so random keys increasingly land in the middle of the
+ * primary key index while time-ordered keys always append at its right edge.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class TransactionIdPerformanceTest {
+
+    private static final int ROWS_PER_BATCH = 500;
+
+    @Benchmark
+    @Threads(8)
+    public String generate_RandomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generate_TimeOrdered() {
+        return TransactionIdGenerator.next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_BATCH)
+    public int[] insertRows(Database database) {
+        List<Object[]> rows = new ArrayList<>(ROWS_PER_BATCH);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < ROWS_PER_BATCH; i++) {
+            rows.add(new Object[]{database.nextId(), "123456789", now});
+        }
+        return database.jdbcTemplate.batchUpdate("""
+                insert into authorization_document (transaction_id, tin, tin_type, created_date,
+                    document_type, document_status, authorization_status)
+                values (?, ?, 'SSN', ?, 'F1040', 'PENDING', 'PENDING')""", rows);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        @Param({"random", "timeOrdered"})
+        public String ids;
+
+        private ConfigurableApplicationContext context;
+        private JdbcTemplate jdbcTemplate;
+
+        @Setup
+        public void setup() {
+            context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties(
+                            "spring.datasource.url=jdbc:h2:mem:id-benchmark-" + ids + ";DB_CLOSE_DELAY=-1",
+                            "spring.jpa.hibernate.ddl-auto=validate",
+                            "spring.main.banner-mode=off",
+                            "logging.level.root=WARN")
+                    .run();
+            jdbcTemplate = context.getBean(JdbcTemplate.class);
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+
+        String nextId() {
+            return "random".equals(ids) ? UUID.randomUUID().toString() : TransactionIdGenerator.next();
+        }
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = AuthorizationOutboxEvent.class)
+    static class BenchmarkApplication {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TransactionIdPerformanceTest.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+} 
\ No newline at end of file
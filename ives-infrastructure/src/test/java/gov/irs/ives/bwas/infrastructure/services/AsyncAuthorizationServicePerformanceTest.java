@@ -0,0 +1,141 @@
+package gov.irs.ives.bwas.infrastructure.services;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocumentPage;
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.core.ports.EssarClient;
+import gov.irs.ives.bwas.core.services.AsyncAuthorizationService;
+import gov.irs.ives.bwas.core.services.AuthorizationService;
+import gov.irs.ives.bwas.infrastructure.config.ApplicationConfig;
+import gov.irs.ives.bwas.infrastructure.config.PersistenceConfig;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutbox;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutboxEvent;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationRepositoryImpl;
+import gov.irs.ives.bwas.infrastructure.persistence.JpaAuthorizationRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares reading a page of documents through {@link AuthorizationServiceImpl} on the
+ * calling thread with reading it through {@link AsyncAuthorizationServiceImpl}, which runs
+ * the same blocking JPA query on the authorization executor. Both use the real services,
+ * repository and executor settings against in-memory H2. The caller threads stand in for
+ * the servlet worker threads; the asynchronous route frees them while it waits, but the
+ * query itself still holds one of the executor's threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class AsyncAuthorizationServicePerformanceTest {
+
+    private static final int TINS = 50;
+    private static final int DOCUMENTS_PER_TIN = 100;
+    private static final int PAGE_SIZE = 25;
+
+    @Param({"blocking", "async"})
+    public String route;
+
+    private ConfigurableApplicationContext context;
+    private AuthorizationService authorizationService;
+    private AsyncAuthorizationService asyncAuthorizationService;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:async-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        authorizationService = context.getBean(AuthorizationService.class);
+        asyncAuthorizationService = context.getBean(AsyncAuthorizationService.class);
+
+        AuthorizationRepository repository = context.getBean(AuthorizationRepository.class);
+        List<AuthorizationDocument> documents = new ArrayList<>(TINS * DOCUMENTS_PER_TIN);
+        LocalDateTime now = LocalDateTime.now();
+        for (int tin = 0; tin < TINS; tin++) {
+            for (int i = 0; i < DOCUMENTS_PER_TIN; i++) {
+                documents.add(AuthorizationDocument.builder()
+                        .transactionId(String.format("tx-%02d-%03d", tin, i))
+                        .tin(tin(tin))
+                        .tinType("SSN")
+                        .documentType("F1040")
+                        .documentStatus("PENDING")
+                        .authorizationStatus("PENDING")
+                        .createdDate(now.minusMinutes(i))
+                        .build());
+            }
+        }
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> repository.saveAll(documents));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(50)
+    public AuthorizationDocumentPage getDocuments() {
+        String tin = tin(ThreadLocalRandom.current().nextInt(TINS));
+        if ("async".equals(route)) {
+            return asyncAuthorizationService.getDocuments(tin, null, PAGE_SIZE).join();
+        }
+        return authorizationService.getDocuments(tin, null, PAGE_SIZE);
+    }
+
+    private static String tin(int index) {
+        return String.format("1234567%02d", index);
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = AuthorizationOutboxEvent.class)
+    @EnableJpaRepositories(basePackageClasses = JpaAuthorizationRepository.class)
+    @Import({ApplicationConfig.class, PersistenceConfig.class, AuthorizationRepositoryImpl.class,
+            AuthorizationOutbox.class, AuthorizationPipeline.class, AuthorizationServiceImpl.class,
+            AsyncAuthorizationServiceImpl.class})
+    static class BenchmarkApplication {
+
+        @Bean
+        EssarClient essarClient() {
+            // Listing documents never requests a signature
+            return mock(EssarClient.class);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(AsyncAuthorizationServicePerformanceTest.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,170 @@
+package gov.irs.ives.bwas.infrastructure.services;
+
+import gov.irs.ives.bwas.core.domain.FBPDocument;
+import gov.irs.ives.bwas.core.ports.FBPClient;
+import gov.irs.ives.bwas.infrastructure.config.OutboxProperties;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutbox;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AuthorizationOutboxDispatcherTest {
+
+    private final AuthorizationOutbox outbox = mock(AuthorizationOutbox.class);
+    private final FBPClient fbpClient = mock(FBPClient.class);
+    private final OutboxProperties properties = new OutboxProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuthorizationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(10);
+        properties.setMaxConcurrency(2);
+        properties.setDispatchTimeout(Duration.ofSeconds(1));
+        dispatcher = new AuthorizationOutboxDispatcher(outbox, fbpClient, properties, meterRegistry);
+    }
+
+    @Test
+    void dispatch_ShouldCompleteDeliveredAndRescheduleFailedEvents() {
+        AuthorizationOutboxEvent delivered = event(1L, "tx-1");
+        AuthorizationOutboxEvent failing = event(2L, "tx-2");
+        when(outbox.claim(anyInt(), any())).thenReturn(List.of(delivered, failing)).thenReturn(List.of());
+        when(fbpClient.authorize("APPROVE", "tx-1", "987654321", null, "1"))
+                .thenReturn(CompletableFuture.completedFuture(FBPDocument.builder().build()));
+        when(fbpClient.authorize("APPROVE", "tx-2", "987654321", null, "2"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("FBP unavailable")));
+
+        dispatcher.dispatch();
+
+        verify(outbox).complete(argThat((Collection<Long> ids) -> ids.size() == 1 && ids.contains(1L)));
+        verify(outbox).reschedule(argThat((Collection<AuthorizationOutboxEvent> events) ->
+                events.size() == 1 && events.contains(failing)));
+        assertEquals(1, failing.getAttempts());
+        assertTrue(failing.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals("RuntimeException: FBP unavailable", failing.getLastError());
+        assertNull(failing.getDeadAt());
+        assertEquals(0, delivered.getAttempts());
+    }
+
+    @Test
+    void dispatch_WhenFbpReportsAlreadyDecided_ShouldCompleteEvent() {
+        AuthorizationOutboxEvent event = event(1L, "tx-1");
+        when(outbox.claim(anyInt(), any())).thenReturn(List.of(event)).thenReturn(List.of());
+        when(fbpClient.authorize("APPROVE", "tx-1", "987654321", null, "1"))
+                .thenReturn(CompletableFuture.failedFuture(
+                        WebClientResponseException.create(409, "Conflict", null, null, null)));
+
+        dispatcher.dispatch();
+
+        verify(outbox).complete(argThat((Collection<Long> ids) -> ids.size() == 1 && ids.contains(1L)));
+        verify(outbox).reschedule(argThat((Collection<AuthorizationOutboxEvent> events) -> events.isEmpty()));
+        assertEquals(0, event.getAttempts());
+    }
+
+    @Test
+    void dispatch_WhenLastAttemptFails_ShouldMarkEventDead() {
+        properties.setMaxAttempts(3);
+        AuthorizationOutboxEvent event = event(1L, "tx-1");
+        event.setAttempts(2);
+        LocalDateTime nextAttemptAt = event.getNextAttemptAt();
+        when(outbox.claim(anyInt(), any())).thenReturn(List.of(event)).thenReturn(List.of());
+        when(fbpClient.authorize("APPROVE", "tx-1", "987654321", null, "1"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("FBP unavailable")));
+
+        dispatcher.dispatch();
+
+        verify(outbox).reschedule(argThat((Collection<AuthorizationOutboxEvent> events) ->
+                events.size() == 1 && events.contains(event)));
+        assertEquals(3, event.getAttempts());
+        assertNotNull(event.getDeadAt());
+        assertEquals(nextAttemptAt, event.getNextAttemptAt());
+        assertEquals(1.0, meterRegistry.get("authorization.outbox.dead").counter().count());
+    }
+
+    @Test
+    void dispatch_ShouldBoundConcurrentCalls() {
+        List<AuthorizationOutboxEvent> events = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            events.add(event(i, "tx-" + i));
+        }
+        when(outbox.claim(anyInt(), any())).thenReturn(events).thenReturn(List.of());
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(fbpClient.authorize(anyString(), anyString(), anyString(), any(), anyString())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<FBPDocument> response = new CompletableFuture<>();
+            timer.schedule(() -> {
+                inFlight.decrementAndGet();
+                response.complete(FBPDocument.builder().build());
+            }, 10, TimeUnit.MILLISECONDS);
+            return response;
+        });
+
+        try {
+            dispatcher.dispatch();
+        } finally {
+            timer.shutdownNow();
+        }
+
+        assertEquals(2, maxInFlight.get());
+        verify(fbpClient, times(10)).authorize(anyString(), anyString(), anyString(), any(), anyString());
+        verify(outbox).complete(argThat((Collection<Long> ids) -> ids.size() == 10));
+    }
+
+    @Test
+    void dispatch_WhenBatchIsFull_ShouldDrainNextBatch() {
+        properties.setBatchSize(1);
+        when(outbox.claim(anyInt(), any()))
+                .thenReturn(List.of(event(1L, "tx-1")))
+                .thenReturn(List.of(event(2L, "tx-1")))
+                .thenReturn(List.of());
+        when(fbpClient.authorize(anyString(), anyString(), anyString(), any(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(FBPDocument.builder().build()));
+
+        dispatcher.dispatch();
+
+        verify(outbox, times(3)).claim(anyInt(), any());
+        verify(outbox, times(2)).complete(any());
+    }
+
+    @Test
+    void backoff_ShouldGrowExponentiallyUpToMaximum() {
+        properties.setInitialBackoff(Duration.ofSeconds(1));
+        properties.setMaxBackoff(Duration.ofSeconds(30));
+
+        Duration first = dispatcher.backoff(1);
+        Duration fourth = dispatcher.backoff(4);
+        Duration tenth = dispatcher.backoff(10);
+
+        assertTrue(first.toMillis() >= 500 && first.toMillis() <= 1000);
+        assertTrue(fourth.toMillis() >= 4000 && fourth.toMillis() <= 8000);
+        assertTrue(tenth.toMillis() >= 15000 && tenth.toMillis() <= 30000);
+    }
+
+    private static AuthorizationOutboxEvent event(Long id, String transactionId) {
+        AuthorizationOutboxEvent event = new AuthorizationOutboxEvent(transactionId, "APPROVE", "987654321", null,
+                LocalDateTime.now());
+        event.setId(id);
+        return event;
+    }
+} 
\ No newline at end of file
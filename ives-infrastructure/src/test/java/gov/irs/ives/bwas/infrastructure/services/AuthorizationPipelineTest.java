@@ -0,0 +1,249 @@
+package gov.irs.ives.bwas.infrastructure.services;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.EssarSignature;
+import gov.irs.ives.bwas.core.exceptions.AuthorizationConflictException;
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.core.ports.EssarClient;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutbox;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutboxEvent;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AuthorizationPipelineTest {
+
+    private final AuthorizationRepository repository = mock(AuthorizationRepository.class);
+    private final EssarClient essarClient = mock(EssarClient.class);
+    private final AuthorizationOutbox outbox = mock(AuthorizationOutbox.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private AuthorizationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new AuthorizationPipeline(repository, essarClient, outbox, executor, transactionManager,
+                Duration.ofSeconds(2), ObservationRegistry.NOOP);
+        ReflectionTestUtils.setField(pipeline, "loadTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(pipeline, "signatureTimeout", Duration.ofSeconds(2));
+        when(repository.updateAuthorizationStatus(any(), any(), any(), any(), any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void authorize_ShouldRequestSignatureOnceDocumentIsChecked() throws Exception {
+        CountDownLatch documentLoaded = new CountDownLatch(1);
+        when(repository.findByTransactionId("tx-1")).thenAnswer(invocation -> {
+            documentLoaded.countDown();
+            return Optional.of(document("tx-1"));
+        });
+        when(essarClient.getElectronicSignature(any(), eq("tx-1"), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    assertEquals(0, documentLoaded.getCount(), "signature was requested before the document loaded");
+                    return CompletableFuture.completedFuture(signature("sig-1"));
+                });
+
+        AuthorizationDocument result = pipeline.authorize("APPROVE", "tx-1", "123456789", "test-user", "987654321")
+                .get(2, TimeUnit.SECONDS);
+
+        assertEquals("APPROVE", result.getAuthorizationStatus());
+        assertNotNull(result.getUpdatedDate());
+        verify(repository).updateAuthorizationStatus("tx-1", "123456789", "PENDING", "APPROVE",
+                result.getUpdatedDate());
+        assertEquals(1L, result.getVersion());
+        AuthorizationOutboxEvent event = appendedEvent();
+        assertEquals("tx-1", event.getTransactionId());
+        assertEquals("APPROVE", event.getAction());
+        assertEquals("987654321", event.getTin());
+        assertEquals("sig-1", event.getSignatureId());
+    }
+
+    @Test
+    void authorize_ShouldNotOpenTransactionUntilSignatureArrives() throws Exception {
+        CompletableFuture<EssarSignature> signature = new CompletableFuture<>();
+        when(repository.findByTransactionId("tx-1")).thenReturn(Optional.of(document("tx-1")));
+        when(essarClient.getElectronicSignature(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(signature);
+
+        CompletableFuture<AuthorizationDocument> result = pipeline.authorize("APPROVE", "tx-1", "123456789",
+                "test-user", "987654321");
+
+        verify(repository, timeout(1000)).findByTransactionId("tx-1");
+        verify(transactionManager, never()).getTransaction(any());
+        verify(repository, never()).updateAuthorizationStatus(any(), any(), any(), any(), any());
+
+        signature.complete(signature("sig-1"));
+        assertEquals("APPROVE", result.get(2, TimeUnit.SECONDS).getAuthorizationStatus());
+        verify(transactionManager).getTransaction(any());
+    }
+
+    @Test
+    void authorize_WhenRejecting_ShouldSkipSignature() throws Exception {
+        when(repository.findByTransactionId("tx-1")).thenReturn(Optional.of(document("tx-1")));
+
+        AuthorizationDocument result = pipeline.authorize("REJECT", "tx-1", "123456789", "test-user", "987654321")
+                .get(2, TimeUnit.SECONDS);
+
+        assertEquals("REJECT", result.getAuthorizationStatus());
+        assertNull(appendedEvent().getSignatureId());
+        verifyNoInteractions(essarClient);
+    }
+
+    @Test
+    void authorize_WhenSignatureTimesOut_ShouldFailWithoutPersisting() {
+        ReflectionTestUtils.setField(pipeline, "signatureTimeout", Duration.ofMillis(50));
+        CompletableFuture<EssarSignature> signature = new CompletableFuture<>();
+        when(repository.findByTransactionId("tx-1")).thenReturn(Optional.of(document("tx-1")));
+        when(essarClient.getElectronicSignature(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(signature);
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> pipeline.authorize("APPROVE", "tx-1", "123456789", "test-user", "987654321").get(2, TimeUnit.SECONDS));
+
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+        assertTrue(signature.isCancelled());
+        verify(repository, never()).updateAuthorizationStatus(any(), any(), any(), any(), any());
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    void authorize_WhenDocumentNotFound_ShouldNotRequestSignature() {
+        when(repository.findByTransactionId("tx-1")).thenReturn(Optional.empty());
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> pipeline.authorize("APPROVE", "tx-1", "123456789", "test-user", "987654321").get(2, TimeUnit.SECONDS));
+
+        assertEquals("Document not found", ex.getCause().getMessage());
+        verifyNoInteractions(essarClient);
+        verify(repository, never()).updateAuthorizationStatus(any(), any(), any(), any(), any());
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    void authorize_WhenDocumentAlreadyDecided_ShouldFailWithoutSignature() {
+        AuthorizationDocument decided = document("tx-1");
+        decided.setAuthorizationStatus("APPROVE");
+        when(repository.findByTransactionId("tx-1")).thenReturn(Optional.of(decided));
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> pipeline.authorize("APPROVE", "tx-1", "123456789", "test-user", "987654321").get(2, TimeUnit.SECONDS));
+
+        assertInstanceOf(AuthorizationConflictException.class, ex.getCause());
+        verifyNoInteractions(essarClient, outbox);
+        verify(repository, never()).updateAuthorizationStatus(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void authorize_WhenDecidedConcurrentlyAfterLoad_ShouldFailWithConflict() {
+        when(repository.findByTransactionId("tx-1")).thenReturn(Optional.of(document("tx-1")));
+        when(repository.updateAuthorizationStatus(any(), any(), any(), any(), any())).thenReturn(false);
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> pipeline.authorize("REJECT", "tx-1", "123456789", "test-user", "987654321").get(2, TimeUnit.SECONDS));
+
+        AuthorizationConflictException conflict = assertInstanceOf(AuthorizationConflictException.class,
+                ex.getCause());
+        assertEquals("tx-1", conflict.getTransactionId());
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    void authorize_WhenDocumentBelongsToAnotherTin_ShouldFailWithoutSignature() {
+        when(repository.findByTransactionId("tx-1")).thenReturn(Optional.of(document("tx-1")));
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> pipeline.authorize("APPROVE", "tx-1", "555555555", "test-user", "987654321")
+                        .get(2, TimeUnit.SECONDS));
+
+        assertInstanceOf(AuthorizationConflictException.class, ex.getCause());
+        verifyNoInteractions(essarClient, outbox);
+        verify(repository, never()).updateAuthorizationStatus(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void authorize_WithUnknownAction_ShouldFailWithoutLoading() {
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> pipeline.authorize("approve", "tx-1", "123456789", "test-user", "987654321")
+                        .get(2, TimeUnit.SECONDS));
+
+        assertInstanceOf(InvalidRequestException.class, ex.getCause());
+        verifyNoInteractions(repository, essarClient, outbox);
+    }
+
+    @Test
+    void sign_ShouldReturnSignatureId() throws Exception {
+        when(essarClient.getElectronicSignature(any(), eq("tx-1"), any(), any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(signature("sig-1")));
+
+        assertEquals("sig-1", pipeline.sign("tx-1", "test-user", "987654321").get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void persistAll_ShouldAppendEventsOfAppliedUpdatesInOneTransaction() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AuthorizationDecision> decisions = List.of(
+                AuthorizationDecision.builder().transactionId("tx-1").documentTin("123456789").action("REJECT").build(),
+                AuthorizationDecision.builder().transactionId("tx-2").documentTin("123456789").action("REJECT").build());
+        AuthorizationOutboxEvent applied = new AuthorizationOutboxEvent("tx-1", "REJECT", "987654321", null, now);
+        AuthorizationOutboxEvent skipped = new AuthorizationOutboxEvent("tx-2", "REJECT", "987654321", null, now);
+        when(repository.updateAuthorizationStatuses(decisions, "PENDING", now)).thenReturn(new boolean[] {true, false});
+
+        boolean[] recorded = pipeline.persistAll(decisions, List.of(applied, skipped), now);
+
+        assertArrayEquals(new boolean[] {true, false}, recorded);
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(repository, never()).saveAll(any());
+        verify(outbox).append(List.of(applied));
+    }
+
+    @SuppressWarnings("unchecked")
+    private AuthorizationOutboxEvent appendedEvent() {
+        ArgumentCaptor<Collection<AuthorizationOutboxEvent>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(outbox).append(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        return captor.getValue().iterator().next();
+    }
+
+    private static AuthorizationDocument document(String transactionId) {
+        return AuthorizationDocument.builder()
+                .transactionId(transactionId)
+                .tin("123456789")
+                .tinType("SSN")
+                .authorizationStatus("PENDING")
+                .version(0L)
+                .createdDate(LocalDateTime.of(2024, 3, 15, 10, 30))
+                .build();
+    }
+
+    private static EssarSignature signature(String signatureId) {
+        return EssarSignature.builder().signatureId(signatureId).signatureStatus("SIGNED").build();
+    }
+} 
\ No newline at end of file
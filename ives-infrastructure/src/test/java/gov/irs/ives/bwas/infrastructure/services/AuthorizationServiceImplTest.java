@@ -0,0 +1,237 @@
+package gov.irs.ives.bwas.infrastructure.services;
+
+import gov.irs.ives.bwas.core.domain.AuthorizationDecision;
+import gov.irs.ives.bwas.core.domain.AuthorizationDocument;
+import gov.irs.ives.bwas.core.domain.AuthorizationResult;
+import gov.irs.ives.bwas.core.domain.AuthorizationResult.Outcome;
+import gov.irs.ives.bwas.core.exceptions.InvalidRequestException;
+import gov.irs.ives.bwas.core.ports.AuthorizationRepository;
+import gov.irs.ives.bwas.infrastructure.persistence.AuthorizationOutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AuthorizationServiceImplTest {
+
+    private final AuthorizationRepository repository = mock(AuthorizationRepository.class);
+    private final AuthorizationPipeline pipeline = mock(AuthorizationPipeline.class);
+    private final AuthorizationServiceImpl service = new AuthorizationServiceImpl(repository, pipeline);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "defaultPageSize", 25);
+        ReflectionTestUtils.setField(service, "maxPageSize", 100);
+        ReflectionTestUtils.setField(service, "maxBulkDecisions", 3);
+        ReflectionTestUtils.setField(service, "bulkSignatureConcurrency", 2);
+        when(pipeline.sign(any(), eq("test-user"), eq("987654321")))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture("sig-" + invocation.getArgument(0)));
+        when(pipeline.persistAll(any(), any(), any())).thenAnswer(invocation -> {
+            boolean[] updated = new boolean[invocation.<List<?>>getArgument(0).size()];
+            Arrays.fill(updated, true);
+            return updated;
+        });
+    }
+
+    @Test
+    void authorizeAll_ShouldLoadAndSaveInOneCallEach() {
+        when(repository.findByTransactionIds(anyCollection()))
+                .thenReturn(List.of(document("tx-1"), document("tx-2")));
+
+        List<AuthorizationResult> results = service.authorizeAll(List.of(
+                decision("tx-1", "APPROVE"),
+                decision("tx-2", "REJECT"),
+                decision("tx-3", "APPROVE")), "test-user", "987654321");
+
+        assertEquals(3, results.size());
+        assertEquals(Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals("APPROVE", results.get(0).getDocument().getAuthorizationStatus());
+        assertEquals(Outcome.UPDATED, results.get(1).getOutcome());
+        assertEquals("REJECT", results.get(1).getDocument().getAuthorizationStatus());
+        assertEquals(Outcome.NOT_FOUND, results.get(2).getOutcome());
+        assertNull(results.get(2).getDocument());
+
+        verify(repository, times(1)).findByTransactionIds(anyCollection());
+        verify(repository, never()).save(any());
+        List<AuthorizationOutboxEvent> events = persistedEvents(2);
+        assertTrue(events.stream().allMatch(event -> "987654321".equals(event.getTin())));
+        assertEquals("sig-tx-1", events.get(0).getSignatureId());
+        assertNull(events.get(1).getSignatureId());
+        verify(pipeline, times(1)).sign(any(), any(), any());
+    }
+
+    @Test
+    void authorizeAll_WithDuplicateOrIncompleteDecision_ShouldReportInvalid() {
+        when(repository.findByTransactionIds(anyCollection())).thenReturn(List.of(document("tx-1")));
+
+        List<AuthorizationResult> results = service.authorizeAll(List.of(
+                decision("tx-1", "APPROVE"),
+                decision("tx-1", "REJECT"),
+                decision("tx-2", null)), "test-user", "987654321");
+
+        assertEquals(Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals(Outcome.INVALID, results.get(1).getOutcome());
+        assertEquals(Outcome.INVALID, results.get(2).getOutcome());
+    }
+
+    @Test
+    void authorizeAll_WhenDocumentAlreadyDecided_ShouldReportConflict() {
+        AuthorizationDocument approved = document("tx-2");
+        approved.setAuthorizationStatus("APPROVE");
+        when(repository.findByTransactionIds(anyCollection())).thenReturn(List.of(document("tx-1"), approved));
+
+        List<AuthorizationResult> results = service.authorizeAll(List.of(
+                decision("tx-1", "APPROVE"),
+                decision("tx-2", "REJECT")), "test-user", "987654321");
+
+        assertEquals(Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals(Outcome.CONFLICT, results.get(1).getOutcome());
+        assertEquals("APPROVE", approved.getAuthorizationStatus());
+        persistedEvents(1);
+    }
+
+    @Test
+    void authorizeAll_WithUnknownAction_ShouldReportInvalid() {
+        when(repository.findByTransactionIds(anyCollection()))
+                .thenReturn(List.of(document("tx-1"), document("tx-2")));
+
+        List<AuthorizationResult> results = service.authorizeAll(List.of(
+                decision("tx-1", "approve"),
+                decision("tx-2", "DELETE")), "test-user", "987654321");
+
+        assertEquals(Outcome.INVALID, results.get(0).getOutcome());
+        assertEquals(Outcome.INVALID, results.get(1).getOutcome());
+        verify(pipeline, never()).sign(any(), any(), any());
+        verify(pipeline, never()).persistAll(any(), any(), any());
+    }
+
+    @Test
+    void authorizeAll_WhenSignatureFails_ShouldLeaveThatDocumentPending() {
+        AuthorizationDocument unsigned = document("tx-2");
+        when(repository.findByTransactionIds(anyCollection()))
+                .thenReturn(List.of(document("tx-1"), unsigned, document("tx-3")));
+        when(pipeline.sign(eq("tx-2"), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("ESSAR signature timed out")));
+
+        List<AuthorizationResult> results = service.authorizeAll(List.of(
+                decision("tx-1", "APPROVE"),
+                decision("tx-2", "APPROVE"),
+                decision("tx-3", "APPROVE")), "test-user", "987654321");
+
+        assertEquals(Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals(Outcome.SIGNATURE_FAILED, results.get(1).getOutcome());
+        assertTrue(results.get(1).getMessage().contains("timed out"));
+        assertNull(results.get(1).getDocument());
+        assertEquals(Outcome.UPDATED, results.get(2).getOutcome());
+        assertEquals("PENDING", unsigned.getAuthorizationStatus());
+        List<AuthorizationOutboxEvent> events = persistedEvents(2);
+        assertEquals("sig-tx-1", events.get(0).getSignatureId());
+        assertEquals("sig-tx-3", events.get(1).getSignatureId());
+    }
+
+    @Test
+    void authorizeAll_WhenDocumentBelongsToAnotherTin_ShouldReportNotFound() {
+        when(repository.findByTransactionIds(anyCollection()))
+                .thenReturn(List.of(document("tx-1"), document("tx-2")));
+
+        List<AuthorizationResult> results = service.authorizeAll(List.of(
+                decision("tx-1", "APPROVE"),
+                AuthorizationDecision.builder().transactionId("tx-2").documentTin("555555555").action("REJECT").build(),
+                AuthorizationDecision.builder().transactionId("tx-3").action("REJECT").build()),
+                "test-user", "987654321");
+
+        assertEquals(Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals(Outcome.NOT_FOUND, results.get(1).getOutcome());
+        assertNull(results.get(1).getDocument());
+        assertEquals(Outcome.INVALID, results.get(2).getOutcome());
+        persistedEvents(1);
+    }
+
+    @Test
+    void authorizeAll_WhenDocumentDecidedConcurrently_ShouldReportOnlyThatOneAsConflict() {
+        AuthorizationDocument first = document("tx-1");
+        first.setVersion(0L);
+        when(repository.findByTransactionIds(anyCollection()))
+                .thenReturn(List.of(first, document("tx-2")));
+        doReturn(new boolean[] {true, false}).when(pipeline).persistAll(any(), any(), any());
+
+        List<AuthorizationResult> results = service.authorizeAll(List.of(
+                decision("tx-1", "APPROVE"),
+                decision("tx-2", "REJECT")), "test-user", "987654321");
+
+        assertEquals(Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals("APPROVE", results.get(0).getDocument().getAuthorizationStatus());
+        assertEquals(1L, results.get(0).getDocument().getVersion());
+        assertEquals(Outcome.CONFLICT, results.get(1).getOutcome());
+        assertNull(results.get(1).getDocument());
+        persistedEvents(2);
+    }
+
+    @Test
+    void authorizeAll_WithTooManyDecisions_ShouldThrowInvalidRequestException() {
+        List<AuthorizationDecision> decisions = List.of(
+                decision("tx-1", "APPROVE"), decision("tx-2", "APPROVE"),
+                decision("tx-3", "APPROVE"), decision("tx-4", "APPROVE"));
+
+        assertThrows(InvalidRequestException.class,
+                () -> service.authorizeAll(decisions, "test-user", "987654321"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getDocuments_WithPageSizeBelowOne_ShouldThrowInvalidRequestException() {
+        assertThrows(InvalidRequestException.class, () -> service.getDocuments("123456789", null, 0));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void authorize_WhenPipelineFails_ShouldRethrowCause() {
+        when(pipeline.authorize("APPROVE", "tx-1", "123456789", "test-user", "987654321"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Document not found")));
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> service.authorize("APPROVE", "tx-1", "123456789", "SSN", "test-user", "987654321"));
+        assertEquals("Document not found", ex.getMessage());
+        verifyNoInteractions(repository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AuthorizationOutboxEvent> persistedEvents(int count) {
+        ArgumentCaptor<List<AuthorizationDecision>> decisions = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<AuthorizationOutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(pipeline, times(1)).persistAll(decisions.capture(), events.capture(), any());
+        assertEquals(count, decisions.getValue().size());
+        assertEquals(count, events.getValue().size());
+        return events.getValue();
+    }
+
+    private static AuthorizationDecision decision(String transactionId, String action) {
+        return AuthorizationDecision.builder()
+                .transactionId(transactionId)
+                .documentTin("123456789")
+                .action(action)
+                .build();
+    }
+
+    private static AuthorizationDocument document(String transactionId) {
+        return AuthorizationDocument.builder()
+                .transactionId(transactionId)
+                .tin("123456789")
+                .tinType("SSN")
+                .authorizationStatus("PENDING")
+                .createdDate(LocalDateTime.of(2024, 3, 15, 10, 30))
+                .build();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,95 @@
+package gov.irs.ives.bwas.infrastructure.tracing;
+
+import gov.irs.ives.bwas.infrastructure.clients.FBPClientImpl;
+import gov.irs.ives.bwas.infrastructure.config.TracingProperties;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObservationPropagationTest {
+
+    private final LocalSpanExporter exporter = new LocalSpanExporter(100);
+    private final ObservationRegistry registry = ObservationRegistry.create();
+    private final MockWebServer mockWebServer = new MockWebServer();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        TracingProperties properties = new TracingProperties();
+        properties.setHeadSampleRate(1.0);
+        properties.setTailSampleRate(1.0);
+        registry.observationConfig().observationHandler(new SamplingTracingHandler(properties, exporter));
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void webClientCall_ShouldBeChildOfCallerAndCarryTraceparent() throws InterruptedException {
+        FBPClientImpl fbpClient = new FBPClientImpl(WebClient.builder().observationRegistry(registry).build(), registry);
+        ReflectionTestUtils.setField(fbpClient, "fbpServiceUrl", mockWebServer.url("/").toString());
+        mockWebServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .setBody("{\"transactionId\":\"tx-1\"}"));
+
+        Observation root = Observation.start("http.server.requests", registry);
+        CompletableFuture<?> call = root.scoped(() -> fbpClient.getDocument("tx-1"));
+        call.join();
+        root.stop();
+
+        List<FinishedSpan> spans = exporter.getFinishedSpans();
+        assertEquals(2, spans.size());
+        FinishedSpan client = spans.get(0);
+        FinishedSpan server = spans.get(1);
+        assertEquals(server.spanId(), client.parentSpanId());
+        // Templated, so ids and TINs never end up in span or metric tags
+        assertEquals("/documents/{transactionId}", client.tags().get("uri"));
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("00-" + server.traceId() + "-" + client.spanId() + "-01", request.getHeader("traceparent"));
+    }
+
+    @Test
+    void capture_ShouldRunLaterStagesInCallersObservation() {
+        Observation root = Observation.start("http.server.requests", registry);
+        CompletableFuture<Void> trigger = new CompletableFuture<>();
+        CompletableFuture<Observation> seen = root.scoped(() -> trigger.thenApplyAsync(
+                ignored -> registry.getCurrentObservation(), ObservationPropagation.capture(registry, executor)));
+
+        // Completed from a thread with no current observation, like a Netty thread
+        new Thread(() -> trigger.complete(null)).start();
+
+        assertSame(root, seen.join());
+        root.stop();
+    }
+
+    @Test
+    void taskDecorator_ShouldRunTaskInSubmittersObservation() throws Exception {
+        Observation root = Observation.start("http.server.requests", registry);
+        Runnable decorated = root.scoped(() -> ObservationPropagation.taskDecorator(registry)
+                .decorate(() -> assertSame(root, registry.getCurrentObservation())));
+
+        executor.submit(decorated).get(1, TimeUnit.SECONDS);
+        root.stop();
+    }
+} 
\ No newline at end of file
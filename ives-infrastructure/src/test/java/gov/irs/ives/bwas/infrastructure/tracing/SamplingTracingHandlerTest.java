@@ -0,0 +1,211 @@
+package gov.irs.ives.bwas.infrastructure.tracing;
+
+import gov.irs.ives.bwas.infrastructure.config.TracingProperties;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.observation.transport.SenderContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingTracingHandlerTest {
+
+    private final TracingProperties properties = new TracingProperties();
+    private final LocalSpanExporter exporter = new LocalSpanExporter(100);
+    private final ObservationRegistry registry = ObservationRegistry.create();
+
+    @BeforeEach
+    void setUp() {
+        properties.setHeadSampleRate(1.0);
+        properties.setTailSampleRate(1.0);
+        registry.observationConfig().observationHandler(new SamplingTracingHandler(properties, exporter));
+    }
+
+    @Test
+    void nestedObservations_ShouldExportOneTraceWithParentLinks() {
+        Observation root = Observation.start("http.server.requests", registry).lowCardinalityKeyValue("uri", "/authorize");
+        root.scoped(() -> Observation.createNotStarted("authorization.service", registry)
+                .contextualName("AuthorizationServiceImpl#authorize")
+                .observe(() -> Observation.createNotStarted("authorization.repository", registry).observe(() -> { })));
+        root.stop();
+
+        List<FinishedSpan> spans = exporter.getFinishedSpans();
+        assertEquals(3, spans.size());
+        FinishedSpan repository = spans.get(0);
+        FinishedSpan service = spans.get(1);
+        FinishedSpan server = spans.get(2);
+        assertEquals("AuthorizationServiceImpl#authorize", service.name());
+        assertNull(server.parentSpanId());
+        assertEquals(server.spanId(), service.parentSpanId());
+        assertEquals(service.spanId(), repository.parentSpanId());
+        assertEquals(1, spans.stream().map(FinishedSpan::traceId).distinct().count());
+        assertEquals(Map.of("uri", "/authorize"), server.tags());
+    }
+
+    @Test
+    void trace_WhenOutsideHeadSample_ShouldRecordNothing() {
+        properties.setHeadSampleRate(0.0);
+        ObservationRegistry unsampled = registryWith(properties);
+
+        Observation root = Observation.start("http.server.requests", unsampled);
+        root.scoped(() -> Observation.createNotStarted("authorization.service", unsampled).observe(() -> { }));
+        root.stop();
+
+        assertTrue(exporter.getFinishedSpans().isEmpty());
+    }
+
+    @Test
+    void trace_WhenOutsideHeadSampleAndChildFailed_ShouldKeepRootSpanOnly() {
+        properties.setHeadSampleRate(0.0);
+        ObservationRegistry unsampled = registryWith(properties);
+
+        Observation root = Observation.start("http.server.requests", unsampled);
+        root.scoped(() -> assertThrows(IllegalStateException.class, () ->
+                Observation.createNotStarted("essar.client.calls", unsampled).observe(() -> {
+                    throw new IllegalStateException("ESSAR unavailable");
+                })));
+        root.stop();
+
+        List<FinishedSpan> spans = exporter.getFinishedSpans();
+        assertEquals(1, spans.size());
+        assertEquals("http.server.requests", spans.get(0).name());
+        assertNull(spans.get(0).parentSpanId());
+    }
+
+    @Test
+    void trace_WhenOutsideHeadSampleAndSlow_ShouldKeepRootSpanOnly() {
+        properties.setHeadSampleRate(0.0);
+        properties.setTailLatencyThreshold(Duration.ZERO);
+        ObservationRegistry unsampled = registryWith(properties);
+
+        Observation root = Observation.start("http.server.requests", unsampled);
+        root.scoped(() -> Observation.createNotStarted("authorization.service", unsampled).observe(() -> { }));
+        root.stop();
+
+        assertEquals(1, exporter.getFinishedSpans().size());
+    }
+
+    @Test
+    void sender_WhenOutsideHeadSample_ShouldNotPropagateTraceparent() {
+        properties.setHeadSampleRate(0.0);
+        ObservationRegistry unsampled = registryWith(properties);
+        Map<String, String> headers = new HashMap<>();
+        SenderContext<Map<String, String>> context = new SenderContext<>(Map::put);
+        context.setCarrier(headers);
+
+        Observation root = Observation.start("http.server.requests", unsampled);
+        root.scoped(() -> Observation.createNotStarted("http.client.requests", () -> context, unsampled)
+                .observe(() -> { }));
+        root.stop();
+
+        assertTrue(headers.isEmpty());
+    }
+
+    @Test
+    void trace_WhenFastAndSuccessful_ShouldBeDroppedByTailSampling() {
+        properties.setTailSampleRate(0.0);
+        ObservationRegistry tailSampled = registryWith(properties);
+
+        Observation.createNotStarted("http.server.requests", tailSampled).observe(() -> { });
+
+        assertTrue(exporter.getFinishedSpans().isEmpty());
+    }
+
+    @Test
+    void trace_WhenChildFailed_ShouldBeKeptByTailSampling() {
+        properties.setTailSampleRate(0.0);
+        ObservationRegistry tailSampled = registryWith(properties);
+
+        Observation root = Observation.start("http.server.requests", tailSampled);
+        root.scoped(() -> assertThrows(IllegalStateException.class, () ->
+                Observation.createNotStarted("essar.client.calls", tailSampled).observe(() -> {
+                    throw new IllegalStateException("ESSAR unavailable");
+                })));
+        root.stop();
+
+        List<FinishedSpan> spans = exporter.getFinishedSpans();
+        assertEquals(2, spans.size());
+        assertEquals("IllegalStateException", spans.get(0).error());
+        assertNull(spans.get(1).error());
+    }
+
+    @Test
+    void trace_WhenSlow_ShouldBeKeptByTailSampling() {
+        properties.setTailSampleRate(0.0);
+        properties.setTailLatencyThreshold(Duration.ZERO);
+        ObservationRegistry tailSampled = registryWith(properties);
+
+        Observation.createNotStarted("http.server.requests", tailSampled).observe(() -> { });
+
+        assertEquals(1, exporter.getFinishedSpans().size());
+    }
+
+    @Test
+    void span_WhenStoppedAfterRoot_ShouldBeExportedOnItsOwn() {
+        Observation root = Observation.start("http.server.requests", registry);
+        Observation straggler = Observation.createNotStarted("essar.client.calls", registry)
+                .parentObservation(root)
+                .start();
+        root.stop();
+        assertEquals(1, exporter.getFinishedSpans().size());
+
+        straggler.stop();
+
+        List<FinishedSpan> spans = exporter.getFinishedSpans();
+        assertEquals(2, spans.size());
+        assertEquals(spans.get(0).spanId(), spans.get(1).parentSpanId());
+    }
+
+    @Test
+    void receiver_WithSampledTraceparent_ShouldJoinUpstreamTrace() {
+        properties.setHeadSampleRate(0.0);
+        properties.setTailSampleRate(0.0);
+        ObservationRegistry joined = registryWith(properties);
+        ReceiverContext<Map<String, String>> context = new ReceiverContext<>(Map::get);
+        context.setCarrier(Map.of("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"));
+
+        Observation.createNotStarted("http.server.requests", () -> context, joined).observe(() -> { });
+
+        FinishedSpan span = exporter.getFinishedSpans().get(0);
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", span.traceId());
+        assertEquals("00f067aa0ba902b7", span.parentSpanId());
+    }
+
+    @Test
+    void receiver_WithUnsampledTraceparent_ShouldRecordNothing() {
+        ReceiverContext<Map<String, String>> context = new ReceiverContext<>(Map::get);
+        context.setCarrier(Map.of("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00"));
+
+        Observation.createNotStarted("http.server.requests", () -> context, registry).observe(() -> { });
+
+        assertTrue(exporter.getFinishedSpans().isEmpty());
+    }
+
+    @Test
+    void sender_ShouldPropagateTraceparent() {
+        Map<String, String> headers = new HashMap<>();
+        SenderContext<Map<String, String>> context = new SenderContext<>(Map::put);
+        context.setCarrier(headers);
+
+        Observation root = Observation.start("http.server.requests", registry);
+        root.scoped(() -> Observation.createNotStarted("http.client.requests", () -> context, registry)
+                .observe(() -> { }));
+        root.stop();
+
+        FinishedSpan client = exporter.getFinishedSpans().get(0);
+        assertEquals("00-" + client.traceId() + "-" + client.spanId() + "-01", headers.get("traceparent"));
+    }
+
+    private ObservationRegistry registryWith(TracingProperties properties) {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new SamplingTracingHandler(properties, exporter));
+        return registry;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,73 @@
+package gov.irs.ives.bwas.infrastructure.tracing;
+
+import gov.irs.ives.bwas.infrastructure.config.TracingProperties;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what tracing adds to one authorize request: a server observation with a
+ * controller, service, two repository and one client observation nested in it, as
+ * {@code POST /authorize} makes them. Compares the observation registry without tracing
+ * against the tracing handler at several head sample rates, with the default tail
+ * sampling. Against a request that spends milliseconds in the database and ESSAR, the
+ * added microseconds are the overhead to keep under 1%.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TracingPerformanceTest {
+
+    @Param({"none", "0.0", "0.01", "0.1", "1.0"})
+    public String headSampleRate;
+
+    private ObservationRegistry registry;
+
+    @Setup
+    public void setup() {
+        registry = ObservationRegistry.create();
+        if (headSampleRate.equals("none")) {
+            // Observations are still made for metrics, just without spans
+            registry.observationConfig().observationHandler(context -> true);
+            return;
+        }
+        TracingProperties properties = new TracingProperties();
+        properties.setHeadSampleRate(Double.parseDouble(headSampleRate));
+        registry.observationConfig().observationHandler(new SamplingTracingHandler(properties, spans -> { }));
+    }
+
+    @Benchmark
+    public void authorizeRequest(Blackhole blackhole) {
+        Observation server = Observation.start("http.server.requests", registry);
+        server.scoped(() -> observe("authorization.controller", () ->
+                observe("authorization.service", () -> {
+                    observe("authorization.repository", () -> blackhole.consume(1));
+                    observe("essar.client.calls", () -> blackhole.consume(2));
+                    observe("authorization.repository", () -> blackhole.consume(3));
+                })));
+        server.stop();
+    }
+
+    private void observe(String name, Runnable work) {
+        Observation.createNotStarted(name, registry).observe(work);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TracingPerformanceTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+} 
\ No newline at end of file